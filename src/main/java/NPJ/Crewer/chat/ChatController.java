@@ -2,6 +2,7 @@ package NPJ.Crewer.chat;
 
 import NPJ.Crewer.chat.chatmessage.dto.ChatMessageDTO;
 import NPJ.Crewer.chat.chatmessage.dto.ChatMessagePayloadDTO;
+import NPJ.Crewer.chat.chatmessage.dto.ChatReadPayloadDTO;
 import NPJ.Crewer.chat.chatroom.ChatRoom;
 import NPJ.Crewer.chat.chatroom.dto.ChatRoomResponseDTO;
 import NPJ.Crewer.chat.directchatroom.dto.DirectChatRoomResponseDTO;
@@ -31,6 +32,7 @@ public class ChatController {
     private final SimpMessagingTemplate messagingTemplate;
     private final MemberRepository memberRepository;
     private final ChatService chatService;
+    private final ChatSessionRegistry chatSessionRegistry;
 
     @MessageMapping("/{chatRoomId}/send")
     @PreAuthorize("isAuthenticated()")
@@ -39,12 +41,13 @@ public class ChatController {
             @Payload ChatMessagePayloadDTO payload,
             StompHeaderAccessor accessor) {
 
-        // 웹소켓 세션에서 MemberId 가져오기
-        Long memberId = (Long) accessor.getSessionAttributes().get("memberId");
+        // 웹소켓 세션에서 CONNECT 시 만든 사용자 정보 가져오기 (DB 조회 없음)
+        ChatSessionContext sender = chatSessionRegistry.getContext(accessor.getSessionAttributes());
 
+        // id 발급 + 저장 대기열 등록 후 바로 브로드캐스트 (DB INSERT는 batch로 나중에 처리)
         ChatMessageDTO savedMessage = chatService.saveMessage(
+                sender,
                 UUID.fromString(chatRoomId),
-                memberId,
                 payload.getContent(),
                 payload.getType()
         );
@@ -55,16 +58,47 @@ public class ChatController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<List<ChatMessageDTO>> getChatHistory(
             @PathVariable("chatRoomId") UUID chatRoomId,
+            @RequestParam(value = "before", required = false) Long beforeId,
+            @RequestParam(value = "limit", defaultValue = "50") int limit,
             @AuthenticationPrincipal(expression = "id") Long memberId) {
 
         // ChatService의 getChatList 메서드를 호출하여 채팅 기록을 조회합니다.
         // 내부에서 chatRoomId로 채팅방 존재 여부, 참여자 권한 등을 확인합니다.
-        List<ChatMessageDTO> chatMessages = chatService.getChatList(chatRoomId, memberId);
+        // 이전 대화는 응답의 마지막(가장 오래된) 메시지 id를 before로 넘겨 이어서 조회합니다.
+        List<ChatMessageDTO> chatMessages = chatService.getChatList(chatRoomId, memberId, beforeId, limit);
 
         // 조회된 채팅 메시지 목록을 HTTP 200 OK 상태와 함께 반환합니다.
         return ResponseEntity.ok(chatMessages);
     }
 
+    // 읽음 처리 (구독: /topic/chat/{chatRoomId}/read, 내 안 읽은 수: /topic/unread/{memberId})
+    @MessageMapping("/{chatRoomId}/read")
+    @PreAuthorize("isAuthenticated()")
+    public void readMessage(
+            @DestinationVariable String chatRoomId,
+            @Payload ChatReadPayloadDTO payload,
+            StompHeaderAccessor accessor) {
+        ChatSessionContext reader = chatSessionRegistry.getContext(accessor.getSessionAttributes());
+        chatService.submitReadReceipt(reader, UUID.fromString(chatRoomId), payload.getMessageId());
+    }
+
+    // 전체 안 읽은 메시지 수 (앱 시작 시 한 번 조회, 이후는 /topic/unread/{memberId} 구독)
+    @GetMapping("/unread")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Long> getUnreadTotal(@AuthenticationPrincipal(expression = "id") Long memberId) {
+        return ResponseEntity.ok(chatService.getUnreadTotal(memberId));
+    }
+
+    // 읽음 처리 후 남은 안 읽은 메시지 수 반환
+    @PostMapping("/{chatRoomId}/read")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Long> markAsRead(
+            @PathVariable("chatRoomId") UUID chatRoomId,
+            @RequestParam(value = "messageId", required = false) Long messageId,
+            @AuthenticationPrincipal(expression = "id") Long memberId) {
+        return ResponseEntity.ok(chatService.markAsRead(chatRoomId, memberId, messageId));
+    }
+
     @GetMapping("/getgroupchat")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<List<ChatRoomResponseDTO>> getMyGroupChatRooms(@AuthenticationPrincipal(expression = "id") Long memberId) {
@@ -0,0 +1,218 @@
+package NPJ.Crewer.chat;
+
+import NPJ.Crewer.chat.chatmessage.ChatMessageIdGenerator;
+import NPJ.Crewer.chat.chatmessage.ChatMessagesPersistedEvent;
+import NPJ.Crewer.chat.chatparticipant.ChatParticipantRepository;
+import NPJ.Crewer.chat.chatparticipant.dto.ChatReadFrameDTO;
+import NPJ.Crewer.chat.chatparticipant.dto.ChatReadPositionDTO;
+import NPJ.Crewer.chat.chatparticipant.dto.UnreadTotalDTO;
+import NPJ.Crewer.chat.chatroom.ChatRoomRepository;
+import NPJ.Crewer.config.broker.BrokerControlMessageEvent;
+import NPJ.Crewer.config.broker.BrokerRelayInterceptor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 처리 묶음 전송.
+ * 읽음 요청은 (채팅방, 회원)마다 가장 큰 messageId 하나로 합쳐 두었다가 주기마다 한 번에 저장하고,
+ * (클라이언트가 보낸 messageId는 지금까지 발급됐을 수 있는 id로 제한하고,
+ *  아직 write-behind 저장 전인 메시지까지의 읽음은 버리거나 낮추지 않고 저장될 때까지 다음 주기로 미룸)
+ * 채팅방마다 /topic/chat/{chatRoomId}/read 로 최대 한 번만 전송한다.
+ * 읽음 위치가 바뀐 회원과 새 메시지가 저장된 채팅방의 참여자에게는 /topic/unread/{memberId} 로 전체 안 읽은 수를 보낸다.
+ * 새 메시지로 인한 재계산은 이 서버에 접속 중인 참여자만 대상으로 하고(접속하지 않은 회원은 받을 구독이 없음),
+ * 다른 서버에 접속한 참여자를 위해 저장된 채팅방 id를 브로커 중계로 알려 각 서버가 자기 접속자만 다시 센다.
+ */
+@Slf4j
+@Component
+public class ChatReadReceiptCoalescer {
+
+    private static final int MEMBER_CHUNK_SIZE = 500;
+    private static final String PERSISTED_ROOMS_DESTINATION = "/internal/chat-unread";
+    private static final TypeReference<Set<UUID>> ROOM_IDS_TYPE = new TypeReference<>() {
+    };
+
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final BrokerRelayInterceptor brokerRelayInterceptor;
+    private final ObjectMapper objectMapper;
+    private final Duration pendingTimeout;
+
+    // 채팅방 -> (회원 -> 읽은 messageId 최댓값)
+    private final Map<UUID, Map<Long, Long>> pendingReads = new ConcurrentHashMap<>();
+    // 새 메시지가 저장되어 참여자의 안 읽은 수가 바뀐 채팅방
+    private final Set<UUID> dirtyRooms = ConcurrentHashMap.newKeySet();
+
+    public ChatReadReceiptCoalescer(ChatParticipantRepository chatParticipantRepository,
+                                    ChatRoomRepository chatRoomRepository,
+                                    SimpMessagingTemplate messagingTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    ChatSessionRegistry chatSessionRegistry,
+                                    BrokerRelayInterceptor brokerRelayInterceptor,
+                                    ObjectMapper objectMapper,
+                                    @Value("${chat.read.pending-timeout-millis:30000}") long pendingTimeoutMillis) {
+        this.chatParticipantRepository = chatParticipantRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.brokerRelayInterceptor = brokerRelayInterceptor;
+        this.objectMapper = objectMapper;
+        this.pendingTimeout = Duration.ofMillis(pendingTimeoutMillis);
+    }
+
+    // 읽음 요청 등록: 같은 주기 안의 요청은 가장 큰 messageId 하나로 합쳐짐
+    public void submit(UUID chatRoomId, Long memberId, Long messageId) {
+        // 아직 발급될 수 없는 id로 이후 메시지까지 읽음 처리하지 못하게 제한
+        long readMessageId = Math.min(messageId, ChatMessageIdGenerator.maxIdAt(Instant.now()));
+        requeue(chatRoomId, memberId, readMessageId);
+    }
+
+    private void requeue(UUID chatRoomId, Long memberId, Long messageId) {
+        pendingReads.computeIfAbsent(chatRoomId, id -> new ConcurrentHashMap<>())
+                .merge(memberId, messageId, Math::max);
+    }
+
+    @EventListener
+    public void onMessagesPersisted(ChatMessagesPersistedEvent event) {
+        dirtyRooms.addAll(event.getChatRoomIds());
+        try {
+            brokerRelayInterceptor.publishControl(PERSISTED_ROOMS_DESTINATION, objectMapper.writeValueAsBytes(event.getChatRoomIds()));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize persisted chat rooms: {}", e.getMessage());
+        }
+    }
+
+    // 다른 서버에서 저장된 채팅방: 이 서버 접속자의 안 읽은 수도 다시 셈
+    @EventListener
+    public void onRelayedMessagesPersisted(BrokerControlMessageEvent event) {
+        if (!PERSISTED_ROOMS_DESTINATION.equals(event.getDestination())) {
+            return;
+        }
+        try {
+            dirtyRooms.addAll(objectMapper.readValue(event.getPayload(), ROOM_IDS_TYPE));
+        } catch (IOException e) {
+            log.error("Failed to read relayed persisted chat rooms: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read.flush-millis:1000}")
+    public void flush() {
+        Map<UUID, Map<Long, Long>> reads = drainReads();
+        Set<UUID> rooms = drainDirtyRooms();
+        if (reads.isEmpty() && rooms.isEmpty()) {
+            return;
+        }
+
+        try {
+            Set<Long> affectedMembers = new HashSet<>();
+
+            if (!reads.isEmpty()) {
+                deferUnpersistedReads(reads);
+            }
+            if (!reads.isEmpty()) {
+                // 읽음 위치 저장 (조건부 UPDATE라 더 오래된 위치로 되돌아가지 않음)
+                transactionTemplate.executeWithoutResult(status -> reads.forEach((chatRoomId, positions) ->
+                        positions.forEach((memberId, messageId) ->
+                                chatParticipantRepository.updateLastReadMessageId(chatRoomId, memberId, messageId))));
+
+                reads.forEach((chatRoomId, positions) -> {
+                    List<ChatReadPositionDTO> frame = new ArrayList<>(positions.size());
+                    positions.forEach((memberId, messageId) -> frame.add(new ChatReadPositionDTO(memberId, messageId)));
+                    messagingTemplate.convertAndSend("/topic/chat/" + chatRoomId + "/read", new ChatReadFrameDTO(chatRoomId, frame));
+                    affectedMembers.addAll(positions.keySet());
+                });
+            }
+
+            if (!rooms.isEmpty()) {
+                // 새 메시지가 저장된 채팅방: 이 서버에 접속 중인 참여자만 다시 셈
+                chatParticipantRepository.findMemberIdsByChatRoomIds(rooms).stream()
+                        .filter(chatSessionRegistry::isConnected)
+                        .forEach(affectedMembers::add);
+            }
+
+            pushUnreadTotals(affectedMembers);
+        } catch (Exception e) {
+            log.error("Failed to flush chat read receipts: {}", e.getMessage(), e);
+        }
+    }
+
+    private void pushUnreadTotals(Set<Long> memberIds) {
+        List<Long> ids = new ArrayList<>(memberIds);
+        for (int from = 0; from < ids.size(); from += MEMBER_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MEMBER_CHUNK_SIZE, ids.size()));
+            for (UnreadTotalDTO total : chatParticipantRepository.countUnreadTotals(chunk)) {
+                messagingTemplate.convertAndSend("/topic/unread/" + total.getMemberId(), total);
+            }
+        }
+    }
+
+    // 채팅방에 아직 저장되지 않은 메시지까지의 읽음은 다음 주기로 미룸 (write-behind 저장 후 반영)
+    // 대기 시간이 지나도 저장되지 않으면(보낸 뒤 저장 실패 등) 그대로 저장: 발급 시각이 지난 id라 이후 메시지를 읽음 처리하지 않음
+    private void deferUnpersistedReads(Map<UUID, Map<Long, Long>> reads) {
+        Map<UUID, Long> lastMessageIds = new HashMap<>();
+        for (Object[] row : chatRoomRepository.findLastMessageIds(reads.keySet())) {
+            if (row[1] != null) {
+                lastMessageIds.put((UUID) row[0], (Long) row[1]);
+            }
+        }
+        Instant deferUntil = Instant.now().minus(pendingTimeout);
+        reads.forEach((chatRoomId, positions) -> {
+            Long lastMessageId = lastMessageIds.get(chatRoomId);
+            positions.entrySet().removeIf(position -> {
+                long messageId = position.getValue();
+                boolean persisted = lastMessageId != null && messageId <= lastMessageId;
+                if (persisted || ChatMessageIdGenerator.timestampOf(messageId).isBefore(deferUntil)) {
+                    return false;
+                }
+                requeue(chatRoomId, position.getKey(), messageId);
+                return true;
+            });
+        });
+        reads.values().removeIf(Map::isEmpty);
+    }
+
+    // 현재까지 쌓인 읽음 요청을 가져가고 비움 (가져가는 도중 들어온 요청은 다음 주기로)
+    private Map<UUID, Map<Long, Long>> drainReads() {
+        Map<UUID, Map<Long, Long>> drained = new HashMap<>();
+        for (UUID chatRoomId : pendingReads.keySet()) {
+            Map<Long, Long> positions = pendingReads.remove(chatRoomId);
+            if (positions != null && !positions.isEmpty()) {
+                drained.put(chatRoomId, positions);
+            }
+        }
+        return drained;
+    }
+
+    private Set<UUID> drainDirtyRooms() {
+        Set<UUID> drained = new HashSet<>();
+        for (UUID chatRoomId : dirtyRooms) {
+            if (dirtyRooms.remove(chatRoomId)) {
+                drained.add(chatRoomId);
+            }
+        }
+        return drained;
+    }
+}
@@ -1,21 +1,29 @@
 package NPJ.Crewer.chat;
 
 import NPJ.Crewer.chat.chatmessage.ChatMessage;
+import NPJ.Crewer.chat.chatmessage.ChatMessageArchiveService;
+import NPJ.Crewer.chat.chatmessage.ChatMessageIdGenerator;
+import NPJ.Crewer.chat.chatmessage.ChatMessageWriteBehindQueue;
 import NPJ.Crewer.chat.chatmessage.dto.ChatMessageDTO;
 import NPJ.Crewer.chat.chatmessage.ChatMessageRepository;
 import NPJ.Crewer.chat.chatparticipant.ChatParticipant;
 import NPJ.Crewer.chat.chatparticipant.ChatParticipantRepository;
+import NPJ.Crewer.chat.chatparticipant.dto.UnreadTotalDTO;
 import NPJ.Crewer.chat.chatroom.ChatRoom;
 import NPJ.Crewer.chat.chatroom.ChatRoomRepository;
+import NPJ.Crewer.chat.chatroom.ChatRoomRepositoryCustom;
+import NPJ.Crewer.chat.chatroom.ChatRoomTeardownService;
 import NPJ.Crewer.chat.chatroom.dto.ChatRoomResponseDTO;
 import NPJ.Crewer.chat.directchatroom.DirectChatRoomRepositoryCustom;
 import NPJ.Crewer.chat.directchatroom.dto.DirectChatRoomResponseDTO;
 import NPJ.Crewer.feeds.groupfeed.GroupFeed;
+import NPJ.Crewer.global.service.FileStorageService;
 import NPJ.Crewer.member.Member;
 import NPJ.Crewer.member.MemberRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -23,16 +31,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -43,52 +47,47 @@ public class ChatService {
     private final MemberRepository memberRepository;
     private final ChatParticipantRepository chatParticipantRepository;
     private final DirectChatRoomRepositoryCustom directChatRoomRepositioryCustom;
+    private final ChatRoomRepositoryCustom chatRoomRepositoryCustom;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final ChatMessageWriteBehindQueue chatMessageWriteBehindQueue;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatReadReceiptCoalescer chatReadReceiptCoalescer;
+    private final ChatMessageArchiveService chatMessageArchiveService;
+    private final ChatRoomTeardownService chatRoomTeardownService;
+    private final FileStorageService fileStorageService;
 
-    @Value("${upload.dir}")
-    private String uploadDir;
+    private static final int MAX_CHAT_PAGE_SIZE = 200;
 
 
-    //ChatMessage 저장
-    @Transactional
-    public ChatMessageDTO saveMessage(UUID chatRoomId, Long memberId, String content, String type) {
-        // 채팅방 조회: 해당 채팅방이 없으면 예외 발생
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
-
-        //사용자 예외 처리
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new EntityNotFoundException("회원 정보가 없습니다."));
+    //ChatMessage 생성: id를 서버에서 먼저 발급하고 DB 저장은 write-behind 큐가 batch로 처리
+    public ChatMessageDTO saveMessage(ChatSessionContext sender, UUID chatRoomId, String content, String type) {
+        // 참여 권한 확인: CONNECT 시 캐시한 참여 채팅방이면 DB 조회 없음
+        chatSessionRegistry.checkRoomAccess(sender, chatRoomId);
 
         // type String에서 MessageType으로 변환
         ChatMessage.MessageType messageType = ChatMessage.MessageType.valueOf(type);
 
-        // 채팅 메시지 엔티티 생성: persistentMember를 sender로 사용
-        ChatMessage message = ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .sender(member)
+        // 시간순 정렬 가능한 id를 발급해 브로드캐스트 전에 메시지를 확정
+        ChatMessageDTO message = ChatMessageDTO.builder()
+                .id(chatMessageIdGenerator.nextId())
+                .chatRoomId(chatRoomId)
+                .senderId(sender.getMemberId())
+                .senderNickname(sender.getNickname())
+                .senderAvatarUrl(sender.getAvatarUrl())
                 .content(content)
                 .type(messageType)
                 .timestamp(Instant.now())
                 .build();
 
-        // 메시지 저장 (저장 시 외래키 sender_id가 올바른 값이어야 함)
-        ChatMessage saved = chatMessageRepository.save(message);
+        // 저장 대기열에 추가 (가득 차 있으면 예외 → 브로드캐스트하지 않음)
+        chatMessageWriteBehindQueue.enqueue(message);
 
-        // 저장된 엔티티를 DTO로 변환하여 반환
-        return ChatMessageDTO.builder()
-                .id(saved.getId())
-                .chatRoomId(chatRoomId)
-                .senderId(member.getId())
-                .senderNickname(member.getNickname())
-                .content(saved.getContent())
-                .type(saved.getType())
-                .timestamp(saved.getTimestamp())
-                .build();
+        return message;
     }
 
-    //ChatMessage List 조희
+    //ChatMessage List 조희 (beforeId가 없으면 가장 최근 메시지부터, 있으면 그보다 오래된 메시지를 limit개)
     @Transactional(readOnly = true)
-    public List<ChatMessageDTO> getChatList(UUID chatRoomId, Long memberId) {
+    public List<ChatMessageDTO> getChatList(UUID chatRoomId, Long memberId, Long beforeId, int limit) {
         //사용자 예외 처리
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new EntityNotFoundException("회원 정보가 없습니다."));
@@ -106,10 +105,19 @@ public class ChatService {
             throw new IllegalArgumentException("채팅방에 접근 권한이 없습니다.");
         }
 
-        //채팅 메시지 조회: 채팅방 ID를 기준으로 채팅 메시지 목록을 조회 , 타임스탬프 기준으로 오래된것부터 뜨는 내림차순
-        List<ChatMessageDTO> messages = chatMessageRepository.findByChatRoomIdWithAvatarUrl(chatRoomId);
-        //각 ChatMessage 엔티티를 ChatMessageDTO로 변환하여 반환 (ChatMessage id는 Long 타입)
-        return messages;//
+        //채팅 메시지 조회: (chat_room_id, id) 인덱스 기준 keyset 페이징, 최신 메시지부터 내림차순
+        int size = Math.max(1, Math.min(limit, MAX_CHAT_PAGE_SIZE));
+        Pageable page = PageRequest.of(0, size);
+        List<ChatMessageDTO> messages = new ArrayList<>(beforeId == null
+                ? chatMessageRepository.findLatestByChatRoomIdWithAvatarUrl(chatRoomId, page)
+                : chatMessageRepository.findByChatRoomIdBeforeWithAvatarUrl(chatRoomId, beforeId, page));
+
+        // 최근 파티션에 남은 메시지가 모자라면 압축 보관된 메시지로 이어서 채움 (보관 메시지 id가 항상 더 작음)
+        if (messages.size() < size) {
+            Long archiveBefore = messages.isEmpty() ? beforeId : messages.get(messages.size() - 1).getId();
+            messages.addAll(chatMessageArchiveService.findArchivedBefore(chatRoomId, archiveBefore, size - messages.size()));
+        }
+        return messages;
     }
 
     @Transactional(readOnly = true)
@@ -118,29 +126,8 @@ public class ChatService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new EntityNotFoundException("회원 정보가 없습니다."));
 
-        // Member 객체를 통해 ChatParticipant 조회
-        List<ChatParticipant> chatParticipants = chatParticipantRepository.findByMemberId(memberId);
-
-        // ChatRoom을 추출하여 DTO로 직접 생성
-        return chatParticipants.stream()
-                .map(ChatParticipant::getChatRoom)
-                .filter(chatRoom ->chatRoom.getType() == ChatRoom.ChatRoomType.GROUP)
-                .distinct()
-                .map(chatRoom -> {
-                    ChatMessage lastMessage = chatMessageRepository.findTopByChatRoomIdOrderByTimestampAtDesc(chatRoom.getId());
-
-                    return new ChatRoomResponseDTO(
-                            chatRoom.getId(),                    // UUID
-                            chatRoom.getName(),                  // String
-                            chatRoom.getMaxParticipants(),       // int
-                            chatRoom.getCurrentParticipants(),   // 현재 인원 수
-                            chatRoom.getType(),
-                            lastMessage != null ? lastMessage.getTimestamp() : null,
-                            lastMessage != null ? lastMessage.getContent() : null,
-                            lastMessage != null ? lastMessage.getType() : null
-                    );
-                })
-                .collect(Collectors.toList());
+        // 참여중인 그룹 채팅방과 방별 마지막 메시지를 한 번에 조회
+        return chatRoomRepositoryCustom.findGroupChatRoomsWithLastMessage(memberId);
     }
     @Transactional(readOnly = true)
     public List<DirectChatRoomResponseDTO> getDirectChatRoomList(Long memberId){
@@ -164,9 +151,53 @@ public class ChatService {
                 .maxParticipants(chatRoom.getMaxParticipants())
                 .currentParticipants(chatRoom.getCurrentParticipants())
                 .type(chatRoom.getType())
+                .lastSendAt(chatRoom.getLastMessageAt())
+                .lastContent(chatRoom.getLastMessagePreview())
+                .lastType(chatRoom.getLastMessageType())
                 .build();
     }
 
+    // 읽음 처리: messageId(없으면 지금까지 보낸 모든 메시지)까지 읽은 것으로 기록하고 남은 안 읽은 메시지 수 반환
+    @Transactional(readOnly = true)
+    public long markAsRead(UUID chatRoomId, Long memberId, Long messageId) {
+        ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndMemberId(chatRoomId, memberId);
+        if (participant == null) {
+            throw new AccessDeniedException("채팅방에 접근 권한이 없습니다.");
+        }
+
+        // 클라이언트가 보낸 id는 지금까지 발급됐을 수 있는 id로 제한 (더 큰 id로 이후 메시지까지 읽음 처리하지 못하게)
+        // 채팅방의 마지막 메시지 id는 write-behind 저장 후에야 바뀌므로 방금 받은 메시지를 읽어도 낮춰지지 않도록 기준으로 쓰지 않음
+        long issuedMessageId = ChatMessageIdGenerator.maxIdAt(Instant.now());
+        long readMessageId = messageId != null ? Math.min(messageId, issuedMessageId) : issuedMessageId;
+
+        // 읽음 위치 저장, 다른 참여자에게 보낼 읽음 표시와 내 안 읽은 수 push는 묶음 전송에서 한 번에 처리
+        chatReadReceiptCoalescer.submit(chatRoomId, memberId, readMessageId);
+
+        // 읽음 위치는 앞으로만 이동하므로 기존 값과 요청 값 중 큰 쪽 이후만 센다
+        long lastRead = Math.max(
+                participant.getLastReadMessageId() != null ? participant.getLastReadMessageId() : 0L,
+                readMessageId);
+        return chatMessageRepository.countByChatRoomIdAndIdGreaterThanAndSenderIdNot(chatRoomId, lastRead, memberId);
+    }
+
+    // STOMP 읽음 처리: DB 저장과 전송은 ChatReadReceiptCoalescer가 주기마다 묶어서 처리
+    // (messageId 제한과 아직 저장되지 않은 메시지까지의 읽음 처리도 ChatReadReceiptCoalescer가 담당)
+    public void submitReadReceipt(ChatSessionContext reader, UUID chatRoomId, Long messageId) {
+        if (messageId == null) {
+            throw new IllegalArgumentException("읽은 메시지 id가 필요합니다.");
+        }
+        chatSessionRegistry.checkRoomAccess(reader, chatRoomId);
+        chatReadReceiptCoalescer.submit(chatRoomId, reader.getMemberId(), messageId);
+    }
+
+    // 참여중인 모든 채팅방의 안 읽은 메시지 수 합계 (이후 변경은 /topic/unread/{memberId}로 push)
+    @Transactional(readOnly = true)
+    public long getUnreadTotal(Long memberId) {
+        return chatParticipantRepository.countUnreadTotals(List.of(memberId)).stream()
+                .mapToLong(UnreadTotalDTO::getUnreadTotal)
+                .sum();
+    }
+
     //ChatMessage 저장
     @Transactional
     public void exitChatRoom(UUID chatRoomId, Long memberId) {
@@ -181,12 +212,12 @@ public class ChatService {
         ChatParticipant mychatroom=  chatParticipantRepository.findByChatRoomIdAndMemberId(chatRoomId, memberId);
 
         chatRoom.removeParticipant();
+        chatParticipantRepository.delete(mychatroom);
+        chatSessionRegistry.revokeRoomAfterCommit(memberId, chatRoomId);
+
+        // 마지막 참여자가 나가면 메시지/채팅방 삭제는 커밋 후 비동기로 나눠서 처리 (요청은 바로 반환)
         if(chatRoom.getCurrentParticipants()==0){
-            chatMessageRepository.deleteAllByChatRoomId(chatRoomId);
-            chatParticipantRepository.delete(mychatroom);
-            chatRoomRepository.deleteById(chatRoomId);
-        }else {
-            chatParticipantRepository.delete(mychatroom);
+            chatRoomTeardownService.teardownAfterCommit(chatRoomId);
         }
 
     }
@@ -194,23 +225,8 @@ public class ChatService {
     public ResponseEntity<String> uploadImage(Long memberId, MultipartFile image){
 
         try {
-            File directory = new File(uploadDir+"/chat");
-            if (!directory.exists()) { // 폴더 없으면 생성
-                directory.mkdirs();
-            }
-            // 저장할 파일 경로
-            String fileName = memberId + "_" + image.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir + "/chat", fileName);
-            String fileUrl = "/crewerimages/chat/" + fileName;
-
-            //파일 있으면 경로만 반환
-            if (Files.exists(filePath)) {
-                return ResponseEntity.ok(fileUrl);
-            }
-
-            // 파일 저장 경로 반환
-            Files.write(filePath, image.getBytes());
-
+            // 내용 해시로 저장되므로 같은 이미지는 한 파일을 공유
+            String fileUrl = fileStorageService.storeChatImage(image);
             return ResponseEntity.ok(fileUrl);
         } catch (IOException e){
             e.printStackTrace();
@@ -0,0 +1,54 @@
+package NPJ.Crewer.chat;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션 하나의 사용자 정보 캐시.
+ * CONNECT 시 StompHandler가 만들어 세션 속성에 보관하고, 메시지 전송 시에는 DB 조회 없이 이 값을 사용한다.
+ * 닉네임/프로필 사진 변경, 채팅방 나가기는 ChatSessionRegistry를 통해 즉시 반영된다.
+ */
+@Getter
+public class ChatSessionContext {
+
+    public static final String SESSION_ATTRIBUTE = "chatSessionContext";
+
+    private final String sessionId;
+    private final Long memberId;
+    private volatile String nickname;
+    private volatile String avatarUrl;
+    private final Set<UUID> authorizedRoomIds = ConcurrentHashMap.newKeySet(); // 참여 확인이 끝난 채팅방
+
+    public ChatSessionContext(String sessionId, Long memberId, String nickname, String avatarUrl, Collection<UUID> roomIds) {
+        this.sessionId = sessionId;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.avatarUrl = avatarUrl;
+        this.authorizedRoomIds.addAll(roomIds);
+    }
+
+    public boolean isAuthorized(UUID chatRoomId) {
+        return authorizedRoomIds.contains(chatRoomId);
+    }
+
+    void authorize(UUID chatRoomId) {
+        authorizedRoomIds.add(chatRoomId);
+    }
+
+    void revoke(UUID chatRoomId) {
+        authorizedRoomIds.remove(chatRoomId);
+    }
+
+    void updateProfile(String nickname, String avatarUrl) {
+        if (nickname != null) {
+            this.nickname = nickname;
+        }
+        if (avatarUrl != null) {
+            this.avatarUrl = avatarUrl;
+        }
+    }
+}
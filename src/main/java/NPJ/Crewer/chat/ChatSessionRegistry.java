@@ -0,0 +1,178 @@
+package NPJ.Crewer.chat;
+
+import NPJ.Crewer.chat.chatparticipant.ChatParticipantRepository;
+import NPJ.Crewer.config.broker.BrokerControlMessageEvent;
+import NPJ.Crewer.config.broker.BrokerRelayInterceptor;
+import NPJ.Crewer.member.Member;
+import NPJ.Crewer.profile.ProfileRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 접속 중인 STOMP 세션의 ChatSessionContext 관리 (회원 한 명이 여러 기기로 접속할 수 있음)
+// 권한 회수/프로필 변경은 다른 서버에 접속한 세션에도 반영되도록 브로커 중계로 전파한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSessionRegistry {
+
+    private static final String INVALIDATION_DESTINATION = "/internal/chat-session";
+
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ProfileRepository profileRepository;
+    private final BrokerRelayInterceptor brokerRelayInterceptor;
+    private final ObjectMapper objectMapper;
+
+    // memberId -> 해당 회원의 접속 세션들
+    private final Map<Long, Set<ChatSessionContext>> sessionsByMember = new ConcurrentHashMap<>();
+
+    // CONNECT 시 한 번만 프로필과 참여 채팅방을 조회해 세션 컨텍스트 생성
+    public ChatSessionContext connect(String sessionId, Map<String, Object> sessionAttributes, Member member) {
+        String avatarUrl = profileRepository.findAvatarUrlByMemberId(member.getId()).orElse(null);
+        ChatSessionContext context = new ChatSessionContext(
+                sessionId,
+                member.getId(),
+                member.getNickname(),
+                avatarUrl,
+                chatParticipantRepository.findChatRoomIdsByMemberId(member.getId())
+        );
+
+        sessionAttributes.put("memberId", member.getId());
+        sessionAttributes.put(ChatSessionContext.SESSION_ATTRIBUTE, context);
+        sessionsByMember.computeIfAbsent(member.getId(), id -> ConcurrentHashMap.newKeySet()).add(context);
+        return context;
+    }
+
+    public ChatSessionContext getContext(Map<String, Object> sessionAttributes) {
+        ChatSessionContext context = (ChatSessionContext) sessionAttributes.get(ChatSessionContext.SESSION_ATTRIBUTE);
+        if (context == null) {
+            throw new IllegalStateException("인증된 웹소켓 세션이 아닙니다.");
+        }
+        return context;
+    }
+
+    // 채팅방 접근 권한 확인: 캐시에 없으면(접속 후 새로 참여한 방) 한 번만 DB에서 확인 후 기억
+    public void checkRoomAccess(ChatSessionContext context, UUID chatRoomId) {
+        if (context.isAuthorized(chatRoomId)) {
+            return;
+        }
+        if (chatParticipantRepository.findByChatRoomIdAndMemberId(chatRoomId, context.getMemberId()) == null) {
+            throw new AccessDeniedException("채팅방에 접근 권한이 없습니다.");
+        }
+        context.authorize(chatRoomId);
+    }
+
+    // 이 서버에 접속 중인 세션이 있는 회원인지
+    public boolean isConnected(Long memberId) {
+        return sessionsByMember.containsKey(memberId);
+    }
+
+    // 채팅방을 나가면 해당 회원의 모든 세션(다른 서버 포함)에서 권한 제거
+    public void revokeRoom(Long memberId, UUID chatRoomId) {
+        revokeRoomLocally(memberId, chatRoomId);
+        broadcast(new SessionInvalidation(InvalidationType.REVOKE_ROOM, memberId, chatRoomId, null, null));
+    }
+
+    // 참여자 삭제가 커밋된 뒤 권한 제거 (커밋 전에 지우면 그 사이 전송이 아직 남은 참여 기록으로 다시 권한을 캐시함)
+    public void revokeRoomAfterCommit(Long memberId, UUID chatRoomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revokeRoom(memberId, chatRoomId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revokeRoom(memberId, chatRoomId);
+            }
+        });
+    }
+
+    // 닉네임/프로필 사진 변경을 접속 중인 세션(다른 서버 포함)에 반영 (null인 값은 유지)
+    public void updateProfile(Long memberId, String nickname, String avatarUrl) {
+        updateProfileLocally(memberId, nickname, avatarUrl);
+        broadcast(new SessionInvalidation(InvalidationType.UPDATE_PROFILE, memberId, null, nickname, avatarUrl));
+    }
+
+    // 다른 서버에서 중계된 무효화를 이 서버의 세션에 반영 (다시 전파하지 않음)
+    @EventListener
+    public void onRelayedInvalidation(BrokerControlMessageEvent event) {
+        if (!INVALIDATION_DESTINATION.equals(event.getDestination())) {
+            return;
+        }
+        try {
+            SessionInvalidation invalidation = objectMapper.readValue(event.getPayload(), SessionInvalidation.class);
+            switch (invalidation.getType()) {
+                case REVOKE_ROOM -> revokeRoomLocally(invalidation.getMemberId(), invalidation.getChatRoomId());
+                case UPDATE_PROFILE -> updateProfileLocally(invalidation.getMemberId(),
+                        invalidation.getNickname(), invalidation.getAvatarUrl());
+            }
+        } catch (IOException e) {
+            log.error("Failed to read relayed chat session invalidation: {}", e.getMessage());
+        }
+    }
+
+    private void revokeRoomLocally(Long memberId, UUID chatRoomId) {
+        sessionsByMember.getOrDefault(memberId, Set.of()).forEach(context -> context.revoke(chatRoomId));
+    }
+
+    private void updateProfileLocally(Long memberId, String nickname, String avatarUrl) {
+        sessionsByMember.getOrDefault(memberId, Set.of()).forEach(context -> context.updateProfile(nickname, avatarUrl));
+    }
+
+    private void broadcast(SessionInvalidation invalidation) {
+        try {
+            brokerRelayInterceptor.publishControl(INVALIDATION_DESTINATION, objectMapper.writeValueAsBytes(invalidation));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize chat session invalidation: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Object> sessionAttributes = StompHeaderAccessor.wrap(event.getMessage()).getSessionAttributes();
+        if (sessionAttributes == null) {
+            return;
+        }
+        ChatSessionContext context = (ChatSessionContext) sessionAttributes.get(ChatSessionContext.SESSION_ATTRIBUTE);
+        if (context == null) {
+            return;
+        }
+        sessionsByMember.computeIfPresent(context.getMemberId(), (memberId, contexts) -> {
+            contexts.remove(context);
+            return contexts.isEmpty() ? null : contexts;
+        });
+    }
+
+    enum InvalidationType {
+        REVOKE_ROOM, UPDATE_PROFILE
+    }
+
+    // 서버 간에 전파되는 세션 무효화 (JSON 직렬화)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class SessionInvalidation {
+        private InvalidationType type;
+        private Long memberId;
+        private UUID chatRoomId;
+        private String nickname;
+        private String avatarUrl;
+    }
+}
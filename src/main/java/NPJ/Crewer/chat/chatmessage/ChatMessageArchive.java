@@ -0,0 +1,44 @@
+package NPJ.Crewer.chat.chatmessage;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// 보관 기간이 지난 채팅 메시지의 압축 세그먼트 (채팅방별 id 오름차순 최대 500개를 gzip JSON 배열로 저장)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "chat_message_archive",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_message_archive_segment", columnNames = {"chat_room_id", "first_message_id"}),
+        indexes = @Index(name = "idx_chat_message_archive_room", columnList = "chat_room_id, last_message_id"))
+public class ChatMessageArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private UUID chatRoomId;
+
+    @Column(name = "first_message_id", nullable = false)
+    private Long firstMessageId;
+
+    @Column(name = "last_message_id", nullable = false)
+    private Long lastMessageId;
+
+    @Column(nullable = false)
+    private int messageCount;
+
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,22 @@
+package NPJ.Crewer.chat.chatmessage;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatMessageArchive, Long> {
+
+    // beforeId보다 오래된 메시지를 포함한 세그먼트를 최신순으로 조회
+    @Query("SELECT a FROM ChatMessageArchive a " +
+            "WHERE a.chatRoomId = :chatRoomId AND a.firstMessageId < :beforeId " +
+            "ORDER BY a.lastMessageId DESC")
+    List<ChatMessageArchive> findSegmentsBefore(@Param("chatRoomId") UUID chatRoomId,
+                                                @Param("beforeId") Long beforeId,
+                                                Pageable pageable);
+}
@@ -0,0 +1,226 @@
+package NPJ.Crewer.chat.chatmessage;
+
+import NPJ.Crewer.chat.chatmessage.dto.ChatMessageDTO;
+import NPJ.Crewer.member.Member;
+import NPJ.Crewer.member.MemberRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 채팅 메시지 보관(cold storage).
+ * 보관 기간(chat.archive.after-days)이 지난 월 파티션을 채팅방별 500개 단위 gzip 세그먼트로 chat_message_archive에 옮긴 뒤
+ * 파티션을 통째로 삭제한다. 대화 조회는 최근 파티션에서 모자란 만큼만 세그먼트를 풀어 이어 붙이므로
+ * 클라이언트는 보관 여부와 관계없이 같은 before 커서로 과거 대화를 불러온다.
+ */
+@Slf4j
+@Service
+public class ChatMessageArchiveService {
+
+    private static final int SEGMENT_SIZE = 500;
+    private static final int SEGMENT_FETCH_SIZE = 4;
+    private static final String INSERT_SEGMENT_SQL =
+            "INSERT INTO chat_message_archive (chat_room_id, first_message_id, last_message_id, message_count, payload, archived_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (chat_room_id, first_message_id) DO NOTHING"; // 중단 후 재실행해도 중복 없음
+    private static final TypeReference<List<ArchivedMessage>> SEGMENT_TYPE = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatMessagePartitionManager partitionManager;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+    private final MemberRepository memberRepository;
+    private final int archiveAfterDays;
+
+    public ChatMessageArchiveService(JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     ObjectMapper objectMapper,
+                                     ChatMessagePartitionManager partitionManager,
+                                     ChatMessageArchiveRepository chatMessageArchiveRepository,
+                                     MemberRepository memberRepository,
+                                     @Value("${chat.archive.after-days:180}") int archiveAfterDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.partitionManager = partitionManager;
+        this.chatMessageArchiveRepository = chatMessageArchiveRepository;
+        this.memberRepository = memberRepository;
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    // 모든 메시지가 보관 기간을 넘긴 파티션만 세그먼트로 옮기고 삭제, 옮긴 파티션 수 반환
+    public int archiveExpiredPartitions() {
+        long cutoffId = ChatMessageIdGenerator.minIdAt(Instant.now().minus(Duration.ofDays(archiveAfterDays)));
+        int archived = 0;
+        for (ChatMessagePartitionManager.Partition partition : partitionManager.listPartitions()) {
+            if (partition.getUpperBound() > cutoffId) {
+                continue;
+            }
+            archivePartition(partition.getName());
+            partitionManager.dropPartition(partition.getName());
+            archived++;
+        }
+        return archived;
+    }
+
+    private void archivePartition(String partition) {
+        ChatMessagePartitionManager.checkPartitionName(partition);
+        List<UUID> chatRoomIds = jdbcTemplate.queryForList("SELECT DISTINCT chat_room_id FROM " + partition, UUID.class);
+
+        for (UUID chatRoomId : chatRoomIds) {
+            // 방 하나씩 커서로 읽어(fetch size) 메모리에는 세그먼트 하나만 유지
+            transactionTemplate.executeWithoutResult(status -> {
+                List<ArchivedMessage> segment = new ArrayList<>(SEGMENT_SIZE);
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "SELECT id, sender_id, content, type, timestamp FROM " + partition +
+                                    " WHERE chat_room_id = ? ORDER BY id");
+                    statement.setFetchSize(SEGMENT_SIZE);
+                    statement.setObject(1, chatRoomId);
+                    return statement;
+                }, (RowCallbackHandler) rs -> {
+                    segment.add(new ArchivedMessage(
+                            rs.getLong("id"),
+                            rs.getLong("sender_id"),
+                            rs.getString("content"),
+                            rs.getString("type"),
+                            rs.getTimestamp("timestamp").toInstant().toEpochMilli()));
+                    if (segment.size() == SEGMENT_SIZE) {
+                        writeSegment(chatRoomId, segment);
+                        segment.clear();
+                    }
+                });
+                if (!segment.isEmpty()) {
+                    writeSegment(chatRoomId, segment);
+                }
+            });
+        }
+        log.info("Archived chat message partition {} ({} rooms)", partition, chatRoomIds.size());
+    }
+
+    private void writeSegment(UUID chatRoomId, List<ArchivedMessage> segment) {
+        jdbcTemplate.update(INSERT_SEGMENT_SQL,
+                chatRoomId,
+                segment.get(0).getId(),
+                segment.get(segment.size() - 1).getId(),
+                segment.size(),
+                compress(segment),
+                Timestamp.from(Instant.now()));
+    }
+
+    // beforeId(없으면 가장 최근)보다 오래된 보관 메시지를 최신순으로 limit개
+    @Transactional(readOnly = true)
+    public List<ChatMessageDTO> findArchivedBefore(UUID chatRoomId, Long beforeId, int limit) {
+        long before = beforeId != null ? beforeId : Long.MAX_VALUE;
+        List<ArchivedMessage> found = new ArrayList<>(limit);
+
+        int page = 0;
+        while (found.size() < limit) {
+            List<ChatMessageArchive> segments = chatMessageArchiveRepository.findSegmentsBefore(
+                    chatRoomId, before, PageRequest.of(page++, SEGMENT_FETCH_SIZE));
+            if (segments.isEmpty()) {
+                break;
+            }
+            for (ChatMessageArchive segment : segments) {
+                List<ArchivedMessage> messages = decompress(segment.getPayload()); // id 오름차순
+                for (int i = messages.size() - 1; i >= 0 && found.size() < limit; i--) {
+                    if (messages.get(i).getId() < before) {
+                        found.add(messages.get(i));
+                    }
+                }
+                if (found.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return toDTOs(chatRoomId, found);
+    }
+
+    // 보관 메시지에는 보낸 사람 id만 있으므로 현재 닉네임/프로필 사진을 한 번에 조회해 채움
+    private List<ChatMessageDTO> toDTOs(UUID chatRoomId, List<ArchivedMessage> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> senderIds = new HashSet<>();
+        messages.forEach(message -> senderIds.add(message.getSenderId()));
+        Map<Long, Member> senders = memberRepository.findAllWithProfileByIdIn(senderIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        return messages.stream()
+                .map(message -> {
+                    Member sender = senders.get(message.getSenderId());
+                    return ChatMessageDTO.builder()
+                            .id(message.getId())
+                            .chatRoomId(chatRoomId)
+                            .senderId(message.getSenderId())
+                            .senderNickname(sender != null ? sender.getNickname() : null)
+                            .senderAvatarUrl(sender != null && sender.getProfile() != null ? sender.getProfile().getAvatarUrl() : null)
+                            .content(message.getContent())
+                            .type(ChatMessage.MessageType.valueOf(message.getType()))
+                            .timestamp(Instant.ofEpochMilli(message.getTimestamp()))
+                            .build();
+                })
+                .toList();
+    }
+
+    private byte[] compress(List<ArchivedMessage> segment) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 세그먼트 압축에 실패했습니다.", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private List<ArchivedMessage> decompress(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, SEGMENT_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 세그먼트를 읽을 수 없습니다.", e);
+        }
+    }
+
+    // 세그먼트에 저장되는 메시지 한 건
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class ArchivedMessage {
+        private long id;
+        private long senderId;
+        private String content;
+        private String type;
+        private long timestamp; // epoch millis
+    }
+}
@@ -0,0 +1,215 @@
+package NPJ.Crewer.chat.chatmessage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간순 정렬이 가능한 채팅 메시지 id 생성기 (Snowflake 방식).
+ * [41bit 밀리초 타임스탬프][10bit 노드 id][12bit 시퀀스] 로 구성되어 DB INSERT 전에 id를 확정할 수 있고,
+ * 값이 커질수록 나중에 보낸 메시지이므로 id 기준 keyset 페이징 순서가 그대로 유지된다.
+ * 노드 id는 chat.message.node-id로 지정하고, 지정하지 않으면
+ * 다중 서버 모드(chat.broker.mode 설정)에서는 Redis에서 비어 있는 노드 id를 임대(TTL + 주기적 갱신)해 사용한다.
+ * 다중 서버 모드인데 노드 id를 지정하지도, 임대하지도 못하면 id 충돌을 막기 위해 기동을 중단한다.
+ * 임대 갱신은 다른 @Scheduled 작업에 밀리지 않도록 전용 스레드에서 하고,
+ * 임대가 만료됐을 수 있는 시점(마지막 갱신 + TTL - 여유 시간)이 지나면 다시 갱신될 때까지 id를 발급하지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatMessageIdGenerator {
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String LEASE_KEY_PREFIX = "chat:message:node:";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+    private static final Duration LEASE_RENEW_INTERVAL = Duration.ofSeconds(10);
+    // 서버 간 시계 차이와 Redis 응답 지연을 감안해 TTL보다 먼저 발급을 멈춤
+    private static final Duration LEASE_SAFETY_MARGIN = Duration.ofSeconds(5);
+    // 내 임대일 때만 TTL 연장 (만료 후 다른 서버가 가져간 노드 id를 덮어쓰지 않음)
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String leaseOwner = UUID.randomUUID().toString();
+    private final boolean leased;
+    private final ScheduledExecutorService leaseRenewer;
+
+    private long nodeId;
+    // 임대한 노드 id로 id를 발급해도 되는 시각 (System.currentTimeMillis 기준)
+    private long leaseValidUntil = Long.MAX_VALUE;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public ChatMessageIdGenerator(@Value("${chat.message.node-id:-1}") long configuredNodeId,
+                                  @Value("${chat.broker.mode:}") String brokerMode,
+                                  StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        if (configuredNodeId >= 0) {
+            if (configuredNodeId > MAX_NODE_ID) {
+                throw new IllegalArgumentException("chat.message.node-id는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.");
+            }
+            this.nodeId = configuredNodeId;
+            this.leased = false;
+            this.leaseRenewer = null;
+        } else if (brokerMode == null || brokerMode.isBlank()) {
+            // 단일 서버: 다른 발급자가 없으므로 0 사용
+            this.nodeId = 0;
+            this.leased = false;
+            this.leaseRenewer = null;
+        } else {
+            long requestedAt = System.currentTimeMillis();
+            this.nodeId = acquireLease();
+            this.leaseValidUntil = validUntil(requestedAt);
+            this.leased = true;
+            this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "chat-message-node-lease");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = LEASE_RENEW_INTERVAL.toMillis();
+            leaseRenewer.scheduleWithFixedDelay(this::renewLease, interval, interval, TimeUnit.MILLISECONDS);
+            log.info("Leased chat message node id {} (broker mode: {})", nodeId, brokerMode);
+        }
+    }
+
+    public synchronized long nextId() {
+        long timestamp = System.currentTimeMillis();
+        if (timestamp >= leaseValidUntil) {
+            // 임대가 만료됐을 수 있어 다른 서버가 같은 노드 id를 쓰고 있을 수 있음 → 중복 id 대신 전송 실패
+            throw new IllegalStateException("메시지 id를 발급할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (timestamp < lastTimestamp) {
+            // 시계가 뒤로 간 경우 마지막 시각을 계속 사용해 순서를 보장
+            timestamp = lastTimestamp;
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 밀리초에 4096개를 모두 사용하면 다음 밀리초로 넘어감
+                timestamp = lastTimestamp + 1;
+                while (System.currentTimeMillis() < timestamp) {
+                    Thread.onSpinWait();
+                }
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    // 임대한 노드 id의 TTL 연장, 임대를 잃었으면(Redis 장애로 만료 등) 발급을 멈추고 새 노드 id를 다시 임대
+    void renewLease() {
+        long requestedAt = System.currentTimeMillis();
+        long current = currentNodeId();
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY_PREFIX + current),
+                    leaseOwner, String.valueOf(LEASE_TTL.toMillis()));
+            if (renewed != null && renewed == 1) {
+                extendLease(current, requestedAt);
+                return;
+            }
+        } catch (RuntimeException e) {
+            // 갱신하지 못한 동안은 기존 유효 시각까지만 발급하고, 다음 주기에 다시 시도
+            log.error("Failed to renew chat message node id lease {}: {}", current, e.getMessage(), e);
+            return;
+        }
+
+        synchronized (this) {
+            leaseValidUntil = 0;
+        }
+        log.error("Lost chat message node id lease {}, message ids are not issued until a new lease is acquired", current);
+        try {
+            long next = acquireLease();
+            synchronized (this) {
+                nodeId = next;
+                leaseValidUntil = validUntil(requestedAt);
+            }
+            log.warn("Switched chat message node id lease from {} to {}", current, next);
+        } catch (IllegalStateException e) {
+            log.error("Failed to lease a new chat message node id: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void extendLease(long renewedNodeId, long requestedAt) {
+        if (nodeId == renewedNodeId) {
+            leaseValidUntil = validUntil(requestedAt);
+        }
+    }
+
+    // Redis TTL은 요청 이후에 설정되므로 요청 시각 기준으로 계산하면 실제 만료보다 항상 이르다
+    private static long validUntil(long requestedAt) {
+        return requestedAt + LEASE_TTL.toMillis() - LEASE_SAFETY_MARGIN.toMillis();
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (!leased) {
+            return;
+        }
+        leaseRenewer.shutdownNow();
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + currentNodeId()), leaseOwner);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release chat message node id lease: {}", e.getMessage());
+        }
+    }
+
+    private synchronized long currentNodeId() {
+        return nodeId;
+    }
+
+    // 임의의 위치부터 비어 있는 노드 id를 찾아 SET NX로 임대
+    private long acquireLease() {
+        int start = ThreadLocalRandom.current().nextInt((int) MAX_NODE_ID + 1);
+        try {
+            for (int i = 0; i <= MAX_NODE_ID; i++) {
+                long candidate = (start + i) & MAX_NODE_ID;
+                Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEASE_KEY_PREFIX + candidate, leaseOwner, LEASE_TTL);
+                if (Boolean.TRUE.equals(acquired)) {
+                    return candidate;
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("채팅 메시지 노드 id를 임대하지 못했습니다. chat.message.node-id를 지정해주세요.", e);
+        }
+        throw new IllegalStateException("사용 가능한 채팅 메시지 노드 id가 없습니다. (최대 " + (MAX_NODE_ID + 1) + "대)");
+    }
+
+    // 해당 시각 이후에 발급되는 id의 최솟값 (월별 파티션 경계, 보관 기준 계산용)
+    public static long minIdAt(Instant instant) {
+        return Math.max(0, instant.toEpochMilli() - EPOCH) << (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    // 해당 시각까지 어느 서버에서든 발급됐을 수 있는 id의 최댓값 (아직 DB에 저장되지 않은 메시지 포함)
+    public static long maxIdAt(Instant instant) {
+        return minIdAt(instant.plusMillis(1)) - 1;
+    }
+
+    // id가 발급된 시각
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+}
@@ -0,0 +1,173 @@
+package NPJ.Crewer.chat.chatmessage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * chat_message 월별 파티션 관리 (PostgreSQL 전용).
+ * 메시지 id(Snowflake)에 발급 시각이 들어 있으므로 id 범위로 파티션을 나눈다.
+ * 덕분에 PK(id)와 write-behind의 ON CONFLICT (id)를 그대로 쓸 수 있고, 최근 달의 인덱스만 메모리에 올라온다.
+ *
+ * 기존 단일 테이블은 chat_message_legacy로 이름을 바꿔 "처음 ~ 다음 달 시작" 범위의 첫 파티션으로 붙이므로
+ * 데이터 복사가 없고, 이후 달은 months-ahead 만큼 미리 만들어 둔다.
+ */
+@Slf4j
+@Component
+public class ChatMessagePartitionManager {
+
+    private static final String TABLE = "chat_message";
+    private static final String LEGACY_PARTITION = "chat_message_legacy";
+    private static final String PARTITION_PREFIX = "chat_message_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("chat_message_(legacy|p\\d{6})");
+    private static final Pattern BOUND = Pattern.compile("FROM \\((MINVALUE|-?\\d+)\\) TO \\((MAXVALUE|-?\\d+)\\)");
+    private static final long LOCK_KEY = 0x63686174L; // 여러 서버가 동시에 파티션 작업을 하지 않도록 advisory lock
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+
+    private Boolean supported;
+
+    public ChatMessagePartitionManager(JdbcTemplate jdbcTemplate,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${chat.partition.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    // 파티션 테이블 전환 (최초 1회) + 앞으로 쓸 월 파티션 생성
+    public void ensurePartitions() {
+        if (!isSupported()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + LOCK_KEY + ")");
+            if (!isPartitioned()) {
+                convertToPartitioned();
+            }
+            createUpcomingPartitions();
+        });
+    }
+
+    // 현재 붙어 있는 파티션 목록
+    public List<Partition> listPartitions() {
+        if (!isSupported() || !isPartitioned()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+                "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass(?)",
+                (rs, rowNum) -> toPartition(rs.getString(1), rs.getString(2)),
+                TABLE).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 보관이 끝난 파티션을 떼어내고 삭제
+    public void dropPartition(String name) {
+        checkPartitionName(name);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + LOCK_KEY + ")");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + name);
+            jdbcTemplate.execute("DROP TABLE " + name);
+        });
+        log.info("Dropped chat message partition {}", name);
+    }
+
+    static void checkPartitionName(String name) {
+        if (!PARTITION_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("채팅 메시지 파티션 이름이 아닙니다: " + name);
+        }
+    }
+
+    private void convertToPartitioned() {
+        YearMonth nextMonth = YearMonth.now(ZoneOffset.UTC).plusMonths(1);
+        long boundary = monthStartId(nextMonth);
+
+        jdbcTemplate.execute("LOCK TABLE " + TABLE + " IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + LEGACY_PARTITION);
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_PARTITION + " RENAME CONSTRAINT chat_message_pkey TO chat_message_legacy_pkey");
+        jdbcTemplate.execute("ALTER INDEX IF EXISTS idx_chat_message_room_id RENAME TO idx_chat_message_legacy_room_id");
+
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + LEGACY_PARTITION + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) " +
+                "PARTITION BY RANGE (id)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT chat_message_pkey PRIMARY KEY (id)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT fk_chat_message_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (id)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT fk_chat_message_sender FOREIGN KEY (sender_id) REFERENCES member (id)");
+        jdbcTemplate.execute("CREATE INDEX idx_chat_message_room_id ON " + TABLE + " (chat_room_id, id)");
+
+        // 기존 데이터는 복사하지 않고 첫 파티션으로 그대로 붙임
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + LEGACY_PARTITION +
+                " FOR VALUES FROM (MINVALUE) TO (" + boundary + ")");
+        log.info("Converted {} to a partitioned table (legacy rows up to {})", TABLE, nextMonth);
+    }
+
+    private void createUpcomingPartitions() {
+        long maxUpperBound = listPartitions().stream()
+                .mapToLong(Partition::getUpperBound)
+                .max()
+                .orElse(monthStartId(YearMonth.now(ZoneOffset.UTC)));
+
+        YearMonth month = YearMonth.from(ChatMessageIdGenerator.timestampOf(maxUpperBound).atZone(ZoneOffset.UTC));
+        YearMonth last = YearMonth.now(ZoneOffset.UTC).plusMonths(monthsAhead);
+        while (!month.isAfter(last)) {
+            String name = PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + TABLE +
+                    " FOR VALUES FROM (" + monthStartId(month) + ") TO (" + monthStartId(month.plusMonths(1)) + ")");
+            month = month.plusMonths(1);
+        }
+    }
+
+    private boolean isPartitioned() {
+        String relkind = jdbcTemplate.query("SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)",
+                rs -> rs.next() ? rs.getString(1) : null, TABLE);
+        return "p".equals(relkind);
+    }
+
+    private boolean isSupported() {
+        if (supported == null) {
+            supported = "PostgreSQL".equals(jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        }
+        return supported;
+    }
+
+    private static long monthStartId(YearMonth month) {
+        return ChatMessageIdGenerator.minIdAt(month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+
+    private static Partition toPartition(String name, String bound) {
+        Matcher matcher = BOUND.matcher(bound == null ? "" : bound);
+        if (!matcher.find()) {
+            return null;
+        }
+        long lower = "MINVALUE".equals(matcher.group(1)) ? Long.MIN_VALUE : Long.parseLong(matcher.group(1));
+        long upper = "MAXVALUE".equals(matcher.group(2)) ? Long.MAX_VALUE : Long.parseLong(matcher.group(2));
+        return new Partition(name, lower, upper);
+    }
+
+    // 파티션 이름과 id 범위 [lowerBound, upperBound)
+    @Getter
+    @AllArgsConstructor
+    public static class Partition {
+        private final String name;
+        private final long lowerBound;
+        private final long upperBound;
+    }
+}
@@ -1,6 +1,7 @@
 package NPJ.Crewer.chat.chatmessage;
 
 import NPJ.Crewer.chat.chatmessage.dto.ChatMessageDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,11 +19,15 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.id = :roomId ORDER BY m.timestamp DESC LIMIT 1")
     ChatMessage findTopByChatRoomIdOrderByTimestampAtDesc(@Param("roomId") UUID roomId);
 
+    // 안 읽은 메시지 수: (chat_room_id, id) 인덱스 범위만 세는 쿼리 (내가 보낸 메시지는 제외)
+    long countByChatRoomIdAndIdGreaterThanAndSenderIdNot(UUID chatRoomId, Long lastReadMessageId, Long senderId);
+
     // DTO 프로젝션으로 avatarurl을 추가해서 Dto를 생성함
+    // (chat_room_id, id) 인덱스를 타는 keyset 페이징: 가장 최근 메시지부터 pageable 크기만큼 조회
     @Query("SELECT new NPJ.Crewer.chat.chatmessage.dto.ChatMessageDTO(" +
             "cm.id, " +
             "cm.chatRoom.id, " +
-            "s.iD, " +
+            "s.id, " +
             "s.nickname, " +
             "cm.content, " +
             "cm.type, " +
@@ -30,8 +35,23 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             "s.profile.avatarUrl) "+
             "FROM ChatMessage cm JOIN cm.sender s "+
             "WHERE cm.chatRoom.id = :chatRoomId " +
-            "ORDER BY cm.timestamp DESC")
-    List<ChatMessageDTO> findByChatRoomIdWithAvatarUrl(@Param("chatRoomId") UUID chatRoomId);
+            "ORDER BY cm.id DESC")
+    List<ChatMessageDTO> findLatestByChatRoomIdWithAvatarUrl(@Param("chatRoomId") UUID chatRoomId, Pageable pageable);
 
-    void deleteAllByChatRoomId(UUID chatRoomId);
+    // beforeId 보다 오래된 메시지를 pageable 크기만큼 조회 (커서 기반 이전 대화 불러오기)
+    @Query("SELECT new NPJ.Crewer.chat.chatmessage.dto.ChatMessageDTO(" +
+            "cm.id, " +
+            "cm.chatRoom.id, " +
+            "s.id, " +
+            "s.nickname, " +
+            "cm.content, " +
+            "cm.type, " +
+            "cm.timestamp, " +
+            "s.profile.avatarUrl) "+
+            "FROM ChatMessage cm JOIN cm.sender s "+
+            "WHERE cm.chatRoom.id = :chatRoomId AND cm.id < :beforeId " +
+            "ORDER BY cm.id DESC")
+    List<ChatMessageDTO> findByChatRoomIdBeforeWithAvatarUrl(@Param("chatRoomId") UUID chatRoomId,
+                                                             @Param("beforeId") Long beforeId,
+                                                             Pageable pageable);
 }
@@ -0,0 +1,348 @@
+package NPJ.Crewer.chat.chatmessage;
+
+import NPJ.Crewer.chat.chatmessage.dto.ChatMessageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 채팅 메시지 write-behind 저장소.
+ * 브로드캐스트가 끝난 메시지를 제한된 큐에 넣고, 전용 스레드가 batch-size 개가 모이거나 flush-millis가 지나면
+ * multi-row INSERT 한 번으로 저장하고, 같은 트랜잭션에서 채팅방의 마지막 메시지 컬럼도 갱신한다.
+ * 큐가 가득 차면 호출한 스레드가 잠시 대기하며(backpressure),
+ * DB 저장에 실패하거나 종료 시점에 남은 메시지는 spool 파일에 기록했다가 다음 기동 시 다시 저장한다.
+ * 이미 저장된 id를 건너뛰는 것(ON CONFLICT DO NOTHING)은 spool 재처리에서만 허용하고,
+ * 실시간 저장 중 id가 충돌하면 다른 메시지가 유실된 것이므로 에러로 기록한다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindQueue {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO chat_message (id, chat_room_id, sender_id, content, type, timestamp) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    // 채팅방의 마지막 메시지 갱신: 더 최신 id일 때만 덮어써서 여러 서버가 동시에 저장해도 뒤로 가지 않음
+    private static final String UPDATE_LAST_MESSAGE_SQL =
+            "UPDATE chat_room SET last_message_id = ?, last_message_at = ?, last_message_preview = ?, last_message_type = ? " +
+            "WHERE id = ? AND (last_message_id IS NULL OR last_message_id < ?)";
+    private static final int PREVIEW_LENGTH = 100;
+    private static final String SPOOL_FILE_PREFIX = "chat-messages-";
+    private static final String SPOOL_FILE_SUFFIX = ".jsonl";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long flushMillis;
+    private final long offerTimeoutMillis;
+    private final Path spoolDir;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public ChatMessageWriteBehindQueue(JdbcTemplate jdbcTemplate,
+                                       TransactionTemplate transactionTemplate,
+                                       ApplicationEventPublisher eventPublisher,
+                                       ObjectMapper objectMapper,
+                                       @Value("${chat.message.queue-capacity:10000}") int queueCapacity,
+                                       @Value("${chat.message.batch-size:200}") int batchSize,
+                                       @Value("${chat.message.flush-millis:200}") long flushMillis,
+                                       @Value("${chat.message.offer-timeout-millis:500}") long offerTimeoutMillis,
+                                       @Value("${chat.message.spool-dir:${upload.dir}/chat-spool}") String spoolDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.spoolDir = Paths.get(spoolDir);
+    }
+
+    @PostConstruct
+    public void start() {
+        replaySpool();
+        worker = new Thread(this::runWorker, "chat-message-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 저장 대기열에 추가, 큐가 가득 차 있으면 offer-timeout-millis 동안 대기
+    public void enqueue(ChatMessageDTO message) {
+        PendingMessage pending = PendingMessage.from(message);
+        try {
+            if (!queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("메시지 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메시지 저장 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private void runWorker() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // batch-size 개가 모이거나 첫 메시지 이후 flush-millis가 지나면 저장
+                long deadline = System.currentTimeMillis() + flushMillis;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch, false);
+            } catch (InterruptedException e) {
+                // 종료 요청: 남은 메시지는 shutdown()에서 처리
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Chat message writer failed: {}", e.getMessage(), e);
+            } finally {
+                if (!batch.isEmpty()) {
+                    // write 도중 예외로 빠져나온 경우 유실되지 않도록 spool에 기록
+                    spool(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+            if (worker.isAlive()) {
+                worker.interrupt();
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            }
+        }
+
+        // 워커가 끝내지 못한 메시지는 파일로 남겨 다음 기동 시 저장
+        List<PendingMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spool(remaining);
+        }
+    }
+
+    // batch를 저장하고 성공하면 batch를 비운다 (replay: spool 재처리, 이미 저장된 id는 건너뜀)
+    private void write(List<PendingMessage> batch, boolean replay) {
+        try {
+            insertAll(batch, replay);
+            publishPersisted(batch);
+            batch.clear();
+        } catch (DataIntegrityViolationException e) {
+            // 그 사이 삭제된 채팅방 등 일부 행만 문제인 경우: 한 건씩 저장하고 문제 행은 버림
+            List<PendingMessage> persisted = new ArrayList<>(batch.size());
+            for (PendingMessage message : batch) {
+                try {
+                    insertAll(List.of(message), replay);
+                    persisted.add(message);
+                } catch (DuplicateKeyException rowError) {
+                    // 실시간 저장에서 id 충돌: 노드 id 중복 등으로 서로 다른 메시지가 같은 id를 받은 경우
+                    log.error("Chat message id collision, message {} for room {} from sender {} was lost: {}",
+                            message.getId(), message.getChatRoomId(), message.getSenderId(), rowError.getMessage());
+                } catch (DataIntegrityViolationException rowError) {
+                    log.warn("Dropping chat message {} for room {}: {}", message.getId(), message.getChatRoomId(), rowError.getMessage());
+                }
+            }
+            publishPersisted(persisted);
+            batch.clear();
+        } catch (DataAccessException e) {
+            log.error("Failed to persist {} chat messages, spooling to disk: {}", batch.size(), e.getMessage());
+            spool(batch);
+            batch.clear();
+        }
+    }
+
+    // 메시지 INSERT와 채팅방 마지막 메시지 갱신을 한 트랜잭션으로 처리
+    private void insertAll(List<PendingMessage> messages, boolean replay) {
+        transactionTemplate.executeWithoutResult(status -> {
+            insertMessages(messages, replay);
+            updateLastMessages(messages);
+        });
+    }
+
+    private void insertMessages(List<PendingMessage> messages, boolean replay) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> params = new ArrayList<>(messages.size() * 6);
+        for (int i = 0; i < messages.size(); i++) {
+            PendingMessage message = messages.get(i);
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+            params.add(message.getId());
+            params.add(message.getChatRoomId());
+            params.add(message.getSenderId());
+            params.add(message.getContent());
+            params.add(message.getType());
+            params.add(Timestamp.from(Instant.ofEpochMilli(message.getTimestamp())));
+        }
+        if (replay) {
+            // spool 재처리: 종료 직전 저장은 됐지만 spool에도 남은 메시지를 중복 저장하지 않음
+            sql.append(" ON CONFLICT (id) DO NOTHING");
+        }
+        int inserted = jdbcTemplate.update(sql.toString(), params.toArray());
+        if (replay && inserted < messages.size()) {
+            log.info("Skipped {} already persisted chat messages while replaying spool", messages.size() - inserted);
+        }
+    }
+
+    // 저장이 끝난 채팅방 알림 (안 읽은 메시지 수 push 등), 리스너 오류가 저장 흐름에 영향을 주지 않게 함
+    private void publishPersisted(List<PendingMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Set<UUID> chatRoomIds = new HashSet<>();
+        messages.forEach(message -> chatRoomIds.add(message.getChatRoomId()));
+        try {
+            eventPublisher.publishEvent(new ChatMessagesPersistedEvent(chatRoomIds));
+        } catch (RuntimeException e) {
+            log.warn("Chat message persisted listener failed: {}", e.getMessage());
+        }
+    }
+
+    // batch 안에서 방마다 가장 최신 메시지 하나로만 갱신
+    private void updateLastMessages(List<PendingMessage> messages) {
+        Map<UUID, PendingMessage> latestByRoom = new HashMap<>();
+        for (PendingMessage message : messages) {
+            latestByRoom.merge(message.getChatRoomId(), message,
+                    (current, candidate) -> candidate.getId() > current.getId() ? candidate : current);
+        }
+
+        List<Object[]> params = new ArrayList<>(latestByRoom.size());
+        for (PendingMessage message : latestByRoom.values()) {
+            params.add(new Object[]{
+                    message.getId(),
+                    Timestamp.from(Instant.ofEpochMilli(message.getTimestamp())),
+                    preview(message.getContent()),
+                    message.getType(),
+                    message.getChatRoomId(),
+                    message.getId()
+            });
+        }
+        jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, params);
+    }
+
+    private static String preview(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_LENGTH));
+    }
+
+    private synchronized void spool(List<PendingMessage> messages) {
+        try {
+            Files.createDirectories(spoolDir);
+            Path file = spoolDir.resolve(SPOOL_FILE_PREFIX + System.currentTimeMillis() + SPOOL_FILE_SUFFIX);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (PendingMessage message : messages) {
+                    writer.write(objectMapper.writeValueAsString(message));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to spool {} chat messages: {}", messages.size(), e.getMessage(), e);
+        }
+    }
+
+    // 이전 실행에서 남긴 spool 파일을 DB에 저장
+    private void replaySpool() {
+        if (!Files.isDirectory(spoolDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().startsWith(SPOOL_FILE_PREFIX)).sorted().toList()) {
+                List<PendingMessage> messages = new ArrayList<>();
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (!line.isBlank()) {
+                        messages.add(objectMapper.readValue(line, PendingMessage.class));
+                    }
+                }
+                for (int from = 0; from < messages.size(); from += batchSize) {
+                    List<PendingMessage> chunk = new ArrayList<>(messages.subList(from, Math.min(from + batchSize, messages.size())));
+                    write(chunk, true);
+                }
+                Files.delete(file);
+                log.info("Replayed {} spooled chat messages from {}", messages.size(), file.getFileName());
+            }
+        } catch (IOException | DataAccessException e) {
+            log.error("Failed to replay chat message spool: {}", e.getMessage(), e);
+        }
+    }
+
+    // 저장 대기 중인 메시지 (spool 직렬화 겸용)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class PendingMessage {
+        private Long id;
+        private UUID chatRoomId;
+        private Long senderId;
+        private String content;
+        private String type;
+        private long timestamp; // epoch millis
+
+        static PendingMessage from(ChatMessageDTO message) {
+            return new PendingMessage(
+                    message.getId(),
+                    message.getChatRoomId(),
+                    message.getSenderId(),
+                    message.getContent(),
+                    message.getType().name(),
+                    message.getTimestamp().toEpochMilli()
+            );
+        }
+    }
+}
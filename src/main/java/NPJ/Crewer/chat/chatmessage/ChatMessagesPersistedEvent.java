@@ -0,0 +1,14 @@
+package NPJ.Crewer.chat.chatmessage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.UUID;
+
+// write-behind batch가 커밋된 뒤 발행: 새 메시지가 저장된 채팅방들
+@Getter
+@AllArgsConstructor
+public class ChatMessagesPersistedEvent {
+    private final Set<UUID> chatRoomIds;
+}
@@ -0,0 +1,10 @@
+package NPJ.Crewer.chat.chatmessage.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ChatReadPayloadDTO {
+    private Long messageId; // 여기까지 읽음
+}
@@ -29,4 +29,9 @@ public class ChatParticipant {
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
+    // 마지막으로 읽은 메시지 id (안 읽은 메시지 수 = 이 id보다 큰 메시지 수)
+    // 읽음 처리 쿼리로만 앞으로 이동하므로 엔티티 UPDATE에서는 제외
+    @Column(updatable = false)
+    private Long lastReadMessageId;
+
 }
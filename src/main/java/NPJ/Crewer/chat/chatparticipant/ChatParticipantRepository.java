@@ -1,11 +1,14 @@
 package NPJ.Crewer.chat.chatparticipant;
 
+import NPJ.Crewer.chat.chatparticipant.dto.UnreadTotalDTO;
 import NPJ.Crewer.member.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,4 +23,30 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
 
     List<ChatParticipant> findByChatRoomId(UUID chatRoomId);
 
+    // 읽음 위치를 앞으로만 이동 (동시에 들어온 읽음 요청이 서로 덮어쓰지 않도록 조건부 UPDATE)
+    @Modifying
+    @Query(value = "UPDATE chat_participant SET last_read_message_id = :messageId " +
+            "WHERE chat_room_id = :chatRoomId AND member_id = :memberId " +
+            "AND (last_read_message_id IS NULL OR last_read_message_id < :messageId)", nativeQuery = true)
+    int updateLastReadMessageId(@Param("chatRoomId") UUID chatRoomId,
+                                @Param("memberId") Long memberId,
+                                @Param("messageId") Long messageId);
+
+    // 채팅방들의 참여자 id
+    @Query("SELECT DISTINCT cp.member.id FROM ChatParticipant cp WHERE cp.chatRoom.id IN :chatRoomIds")
+    List<Long> findMemberIdsByChatRoomIds(@Param("chatRoomIds") Collection<UUID> chatRoomIds);
+
+    // 회원별 전체 안 읽은 메시지 수: 참여 채팅방마다 읽은 위치 이후의 (chat_room_id, id) 인덱스 범위만 센다 (내가 보낸 메시지 제외)
+    @Query("SELECT new NPJ.Crewer.chat.chatparticipant.dto.UnreadTotalDTO(cp.member.id, COUNT(m)) " +
+            "FROM ChatParticipant cp " +
+            "LEFT JOIN ChatMessage m ON m.chatRoom = cp.chatRoom AND m.id > COALESCE(cp.lastReadMessageId, 0) " +
+            "AND m.sender.id <> cp.member.id " +
+            "WHERE cp.member.id IN :memberIds " +
+            "GROUP BY cp.member.id")
+    List<UnreadTotalDTO> countUnreadTotals(@Param("memberIds") Collection<Long> memberIds);
+
+    //Member가 참여중인 채팅방 id만 조회 (STOMP 세션 컨텍스트용)
+    @Query("SELECT cp.chatRoom.id FROM ChatParticipant cp WHERE cp.member.id = :memberId")
+    List<UUID> findChatRoomIdsByMemberId(@Param("memberId") Long memberId);
+
 }
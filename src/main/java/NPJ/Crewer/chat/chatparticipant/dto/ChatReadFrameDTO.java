@@ -0,0 +1,15 @@
+package NPJ.Crewer.chat.chatparticipant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+// /topic/chat/{chatRoomId}/read 로 주기마다 한 번 전송되는 읽음 위치 묶음
+@Getter
+@AllArgsConstructor
+public class ChatReadFrameDTO {
+    private UUID chatRoomId;
+    private List<ChatReadPositionDTO> reads; // 직전 전송 이후 읽음 위치가 바뀐 참여자만 포함
+}
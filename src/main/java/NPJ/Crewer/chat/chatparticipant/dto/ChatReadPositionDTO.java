@@ -0,0 +1,11 @@
+package NPJ.Crewer.chat.chatparticipant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ChatReadPositionDTO {
+    private Long memberId;
+    private Long lastReadMessageId;
+}
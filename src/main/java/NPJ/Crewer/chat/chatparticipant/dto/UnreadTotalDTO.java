@@ -0,0 +1,12 @@
+package NPJ.Crewer.chat.chatparticipant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원의 전체 안 읽은 메시지 수 (/topic/unread/{memberId})
+@Getter
+@AllArgsConstructor
+public class UnreadTotalDTO {
+    private Long memberId;
+    private Long unreadTotal;
+}
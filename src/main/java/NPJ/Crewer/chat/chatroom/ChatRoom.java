@@ -1,5 +1,6 @@
 package NPJ.Crewer.chat.chatroom;
 
+import NPJ.Crewer.chat.chatmessage.ChatMessage;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -41,6 +42,21 @@ public class ChatRoom {
     @Enumerated(EnumType.STRING)
     private ChatRoomType type;
 
+    // 마지막 메시지 (채팅방 목록용 비정규화 컬럼)
+    // 메시지 저장과 같은 트랜잭션에서 ChatMessageWriteBehindQueue가 SQL로만 갱신하므로 엔티티 UPDATE에서는 제외
+    @Column(updatable = false)
+    private Long lastMessageId;
+
+    @Column(updatable = false)
+    private Instant lastMessageAt;
+
+    @Column(updatable = false, length = 100)
+    private String lastMessagePreview;
+
+    @Enumerated(EnumType.STRING)
+    @Column(updatable = false)
+    private ChatMessage.MessageType lastMessageType;
+
     @CreatedDate
     @Column(updatable = false)
     private Instant createdAt;
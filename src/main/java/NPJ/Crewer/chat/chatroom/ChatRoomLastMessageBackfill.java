@@ -0,0 +1,53 @@
+package NPJ.Crewer.chat.chatroom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마지막 메시지 컬럼이 생기기 전에 만들어진 채팅방 보정.
+ * 메시지는 있는데 last_message_id가 비어 있는 방만 채우고, 그 방 참여자의 읽음 위치도 마지막 메시지로 맞춰
+ * 기존 대화가 전부 안 읽은 메시지로 잡히지 않게 한다. 보정이 끝난 뒤에는 대상이 없어 바로 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomLastMessageBackfill {
+
+    private static final String BACKFILL_SQL = """
+            WITH latest AS (
+                SELECT DISTINCT ON (m.chat_room_id) m.chat_room_id, m.id, m.timestamp, m.content, m.type
+                FROM chat_message m
+                WHERE m.chat_room_id IN (SELECT r.id FROM chat_room r WHERE r.last_message_id IS NULL)
+                ORDER BY m.chat_room_id, m.id DESC
+            ), rooms AS (
+                UPDATE chat_room r
+                SET last_message_id = l.id, last_message_at = l.timestamp,
+                    last_message_preview = LEFT(l.content, 100), last_message_type = l.type
+                FROM latest l
+                WHERE r.id = l.chat_room_id AND r.last_message_id IS NULL
+                RETURNING r.id, r.last_message_id
+            )
+            UPDATE chat_participant cp
+            SET last_read_message_id = rooms.last_message_id
+            FROM rooms
+            WHERE cp.chat_room_id = rooms.id AND cp.last_read_message_id IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int participants = jdbcTemplate.update(BACKFILL_SQL);
+            if (participants > 0) {
+                log.info("Backfilled last message for chat rooms ({} participants updated)", participants);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill chat room last messages: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package NPJ.Crewer.chat.chatroom;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -10,4 +14,8 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, UUID> {
 
     // 그룹피드의 채팅방삭제
     void deleteById(UUID id);
+
+    // 채팅방별 마지막 메시지 id [chatRoomId, lastMessageId] (읽음 위치 상한 확인용)
+    @Query("SELECT cr.id, cr.lastMessageId FROM ChatRoom cr WHERE cr.id IN :chatRoomIds")
+    List<Object[]> findLastMessageIds(@Param("chatRoomIds") Collection<UUID> chatRoomIds);
 }
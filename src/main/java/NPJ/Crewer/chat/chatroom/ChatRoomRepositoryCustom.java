@@ -0,0 +1,11 @@
+package NPJ.Crewer.chat.chatroom;
+
+import NPJ.Crewer.chat.chatroom.dto.ChatRoomResponseDTO;
+
+import java.util.List;
+
+public interface ChatRoomRepositoryCustom {
+
+    // 참여중인 그룹 채팅방 + 마지막 메시지를 한 번의 쿼리로 가져오기
+    List<ChatRoomResponseDTO> findGroupChatRoomsWithLastMessage(Long memberId);
+}
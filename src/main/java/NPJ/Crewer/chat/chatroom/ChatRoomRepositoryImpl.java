@@ -0,0 +1,59 @@
+package NPJ.Crewer.chat.chatroom;
+
+import NPJ.Crewer.chat.chatmessage.QChatMessage;
+import NPJ.Crewer.chat.chatparticipant.QChatParticipant;
+import NPJ.Crewer.chat.chatroom.dto.ChatRoomResponseDTO;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    private final QChatRoom chatRoom = QChatRoom.chatRoom;
+    private final QChatParticipant participant = QChatParticipant.chatParticipant;
+    private final QChatMessage unreadMessage = new QChatMessage("unreadMessage");
+
+    public ChatRoomRepositoryImpl(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    @Override
+    public List<ChatRoomResponseDTO> findGroupChatRoomsWithLastMessage(Long memberId) {
+
+        return queryFactory
+                .select(Projections.fields(ChatRoomResponseDTO.class,
+                        chatRoom.id,
+                        chatRoom.name,
+                        chatRoom.maxParticipants,
+                        chatRoom.currentParticipants,
+                        chatRoom.type,
+                        chatRoom.lastMessageAt.as("lastSendAt"),
+                        chatRoom.lastMessagePreview.as("lastContent"),
+                        chatRoom.lastMessageType.as("lastType"),
+                        // 안 읽은 메시지 수: (chat_room_id, id) 인덱스에서 읽은 위치 이후 범위만 센다 (내가 보낸 메시지 제외)
+                        ExpressionUtils.as(
+                                JPAExpressions
+                                        .select(unreadMessage.count())
+                                        .from(unreadMessage)
+                                        .where(unreadMessage.chatRoom.eq(chatRoom)
+                                                .and(unreadMessage.id.gt(participant.lastReadMessageId.coalesce(0L)))
+                                                .and(unreadMessage.sender.id.ne(participant.member.id))),
+                                "unreadCount")
+                ))
+                .from(participant)
+                .join(participant.chatRoom, chatRoom)
+                .where(
+                        participant.member.id.eq(memberId)
+                                .and(chatRoom.type.eq(ChatRoom.ChatRoomType.GROUP))
+                )
+                // 최근 대화가 있었던 방부터, 메시지가 없는 방은 마지막
+                .orderBy(chatRoom.lastMessageId.desc().nullsLast())
+                .fetch();
+    }
+}
@@ -0,0 +1,174 @@
+package NPJ.Crewer.chat.chatroom;
+
+import NPJ.Crewer.chat.ChatSessionRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 정리(삭제).
+ * 마지막 참여자가 나가거나 그룹 피드와 함께 삭제된 채팅방을 요청 트랜잭션 커밋 후 전용 스레드에서 지운다.
+ * 메시지는 chunk-size 개씩 나눠 set 기반 DELETE로 지우므로 큰 방이어도 한 트랜잭션이 오래 잠기지 않고,
+ * 도중에 서버가 내려가도 참여자가 없는 방은 sweepOrphanRooms()가 다시 정리한다.
+ * 정리는 참여자가 없는 방에만 하며, 모든 DELETE에 참여자 NOT EXISTS 조건을 걸고 마지막 단계에서 채팅방 행을 잠근 뒤
+ * 다시 확인하므로, 정리 도중 누군가 다시 참여한 방은 지우지 않고 중단한다.
+ */
+@Slf4j
+@Service
+public class ChatRoomTeardownService {
+
+    // 정리 대상 조건: sweep과 같은 참여자 NOT EXISTS (파라미터: chatRoomId)
+    private static final String NO_PARTICIPANT =
+            "NOT EXISTS (SELECT 1 FROM chat_participant cp WHERE cp.chat_room_id = ?)";
+    private static final String DELETE_MESSAGES_CHUNK_SQL =
+            "DELETE FROM chat_message WHERE id IN (SELECT id FROM chat_message WHERE chat_room_id = ? LIMIT ?) AND " + NO_PARTICIPANT;
+    private static final String DELETE_ARCHIVE_CHUNK_SQL =
+            "DELETE FROM chat_message_archive WHERE id IN (SELECT id FROM chat_message_archive WHERE chat_room_id = ? LIMIT ?) AND " + NO_PARTICIPANT;
+    // 참여자가 없고 그룹 피드에도 연결되지 않은 채 orphan-minutes 이상 지난 채팅방
+    private static final String FIND_ORPHAN_ROOMS_SQL =
+            "SELECT r.id FROM chat_room r " +
+            "WHERE NOT EXISTS (SELECT 1 FROM chat_participant cp WHERE cp.chat_room_id = r.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM group_feed gf WHERE gf.chat_room_id = r.id) " +
+            "AND r.created_at < now() - make_interval(mins => ?) " +
+            "LIMIT 100";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final int chunkSize;
+    private final int orphanMinutes;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-room-teardown");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChatRoomTeardownService(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   ChatSessionRegistry chatSessionRegistry,
+                                   @Value("${chat.teardown.chunk-size:5000}") int chunkSize,
+                                   @Value("${chat.teardown.orphan-minutes:10}") int orphanMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.chunkSize = chunkSize;
+        this.orphanMinutes = orphanMinutes;
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 비동기로 정리 (롤백되면 정리하지 않음)
+    public void teardownAfterCommit(UUID chatRoomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            executor.execute(() -> teardown(chatRoomId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                executor.execute(() -> teardown(chatRoomId));
+            }
+        });
+    }
+
+    // 그룹 피드와 함께 채팅방을 삭제: 현재 트랜잭션에서 참여자를 모두 내보내고, 커밋 후 세션 권한 제거와 정리
+    public void evictParticipantsAndTeardownAfterCommit(UUID chatRoomId) {
+        List<Long> memberIds = jdbcTemplate.queryForList(
+                "SELECT member_id FROM chat_participant WHERE chat_room_id = ?", Long.class, chatRoomId);
+        jdbcTemplate.update("DELETE FROM chat_participant WHERE chat_room_id = ?", chatRoomId);
+
+        Runnable afterCommit = () -> {
+            memberIds.forEach(memberId -> chatSessionRegistry.revokeRoom(memberId, chatRoomId));
+            executor.execute(() -> teardown(chatRoomId));
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                afterCommit.run();
+            }
+        });
+    }
+
+    // 정리가 끝나지 못한 채팅방을 다시 정리 대상으로 등록
+    public int sweepOrphanRooms() {
+        List<UUID> orphanRoomIds = jdbcTemplate.queryForList(FIND_ORPHAN_ROOMS_SQL, UUID.class, orphanMinutes);
+        orphanRoomIds.forEach(chatRoomId -> executor.execute(() -> teardown(chatRoomId)));
+        return orphanRoomIds.size();
+    }
+
+    private void teardown(UUID chatRoomId) {
+        try {
+            // 그룹 피드에 연결된 방은 이후 참여자를 위해 유지
+            Integer linkedFeeds = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM group_feed WHERE chat_room_id = ?", Integer.class, chatRoomId);
+            if (linkedFeeds != null && linkedFeeds > 0) {
+                return;
+            }
+
+            // 1) 참여자가 있으면(나간 뒤 다시 참여 등) 정리하지 않음
+            if (hasParticipants(chatRoomId)) {
+                log.info("Chat room {} has participants again, teardown aborted", chatRoomId);
+                return;
+            }
+
+            // 2) 메시지/보관 세그먼트: chunk 단위 DELETE (chunk마다 별도 커밋, 참여자가 생기면 더 지우지 않음)
+            int messages = deleteInChunks(DELETE_MESSAGES_CHUNK_SQL, chatRoomId);
+            int segments = deleteInChunks(DELETE_ARCHIVE_CHUNK_SQL, chatRoomId);
+
+            // 3) 채팅방: 행을 잠가 새 참여(참여자 INSERT의 FK 확인)와 직렬화한 뒤 다시 확인하고 삭제
+            Boolean deleted = transactionTemplate.execute(status -> {
+                jdbcTemplate.queryForList("SELECT id FROM chat_room WHERE id = ? FOR UPDATE", UUID.class, chatRoomId);
+                if (hasParticipants(chatRoomId)) {
+                    return false;
+                }
+                jdbcTemplate.update("DELETE FROM chat_message WHERE chat_room_id = ?", chatRoomId);
+                jdbcTemplate.update("DELETE FROM direct_chat_room WHERE id = ?", chatRoomId);
+                jdbcTemplate.update("DELETE FROM chat_room WHERE id = ? AND " + NO_PARTICIPANT, chatRoomId, chatRoomId);
+                return true;
+            });
+            if (!Boolean.TRUE.equals(deleted)) {
+                log.warn("Chat room {} was joined during teardown, kept the room ({} messages, {} archive segments already deleted)",
+                        chatRoomId, messages, segments);
+                return;
+            }
+            log.info("Chat room {} torn down ({} messages, {} archive segments)", chatRoomId, messages, segments);
+        } catch (Exception e) {
+            log.error("Failed to tear down chat room {}: {}", chatRoomId, e.getMessage(), e);
+        }
+    }
+
+    private int deleteInChunks(String sql, UUID chatRoomId) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(sql, chatRoomId, chunkSize, chatRoomId);
+            total += deleted;
+        } while (deleted > 0);
+        return total;
+    }
+
+    private boolean hasParticipants(UUID chatRoomId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM chat_participant WHERE chat_room_id = ?)", Boolean.class, chatRoomId));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 남은 작업은 다음 기동 후 sweepOrphanRooms()가 이어서 처리
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -23,4 +23,5 @@ public class ChatRoomResponseDTO {
     private Instant lastSendAt;
     private String lastContent;
     private ChatMessage.MessageType lastType;
+    private long unreadCount; // 안 읽은 메시지 수
 }
\ No newline at end of file
@@ -15,8 +15,8 @@ import java.util.UUID;
 public class DirectChatRoomResponseDTO extends ChatRoomResponseDTO {
     private String nickname;
     private String avatarUrl;
-    public DirectChatRoomResponseDTO(UUID id, String name, int maxParticipants, int currentParticipants, ChatRoom.ChatRoomType type, Instant lastSendAt, String lastContent, ChatMessage.MessageType lastType) {
-        super(id, name, maxParticipants, currentParticipants, type, lastSendAt, lastContent, lastType);
+    public DirectChatRoomResponseDTO(UUID id, String name, int maxParticipants, int currentParticipants, ChatRoom.ChatRoomType type, Instant lastSendAt, String lastContent, ChatMessage.MessageType lastType, long unreadCount) {
+        super(id, name, maxParticipants, currentParticipants, type, lastSendAt, lastContent, lastType, unreadCount);
     }
 
 }
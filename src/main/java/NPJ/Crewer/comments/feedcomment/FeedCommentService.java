@@ -4,6 +4,8 @@ import NPJ.Crewer.comments.feedcomment.dto.FeedCommentCreateDTO;
 import NPJ.Crewer.comments.feedcomment.dto.FeedCommentResponseDTO;
 import NPJ.Crewer.feeds.feed.Feed;
 import NPJ.Crewer.feeds.feed.FeedRepository;
+import NPJ.Crewer.feeds.FeedBoard;
+import NPJ.Crewer.feeds.HotFeedRanking;
 import NPJ.Crewer.member.Member;
 import NPJ.Crewer.member.MemberRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -20,6 +22,7 @@ public class FeedCommentService {
     private final FeedCommentRepository feedCommentRepository;
     private final FeedRepository feedRepository;
     private final MemberRepository memberRepository;
+    private final HotFeedRanking hotFeedRanking;
 
     //Comment 생성
     @Transactional
@@ -40,6 +43,8 @@ public class FeedCommentService {
                 .build();
 
         FeedComment savedFeedComment = feedCommentRepository.save(feedComment);
+        feedRepository.addCommentCount(feedId, 1);
+        hotFeedRanking.commented(FeedBoard.FEED, feedId);
 
         //DTO 변환 후 반환
         return new FeedCommentResponseDTO(savedFeedComment.getId(), savedFeedComment.getContent(),
@@ -80,6 +85,8 @@ public class FeedCommentService {
         }
 
         feedCommentRepository.delete(feedComment);
+        feedRepository.addCommentCount(feedComment.getFeed().getId(), -1);
+        hotFeedRanking.commentDeleted(FeedBoard.FEED, feedComment.getFeed().getId(), feedComment.getCreatedAt());
 
     }
 }
@@ -4,6 +4,8 @@ import NPJ.Crewer.comments.feedcomment.dto.FeedCommentResponseDTO;
 import NPJ.Crewer.comments.groupfeedcomment.dto.GroupFeedCommentCreateDTO;
 import NPJ.Crewer.feeds.groupfeed.GroupFeed;
 import NPJ.Crewer.feeds.groupfeed.GroupFeedRepository;
+import NPJ.Crewer.feeds.FeedBoard;
+import NPJ.Crewer.feeds.HotFeedRanking;
 import NPJ.Crewer.member.Member;
 import NPJ.Crewer.member.MemberRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -20,6 +22,7 @@ public class GroupFeedCommentService {
     private final GroupFeedCommentRepository groupFeedCommentRepository;
     private final GroupFeedRepository groupFeedRepository;
     private final MemberRepository memberRepository;
+    private final HotFeedRanking hotFeedRanking;
 
     //GroupFeedComment 생성
     @Transactional
@@ -40,6 +43,8 @@ public class GroupFeedCommentService {
                 .build();
 
         GroupFeedComment savedGroupFeedComment = groupFeedCommentRepository.save(groupFeedComment);
+        groupFeedRepository.addCommentCount(groupFeedId, 1);
+        hotFeedRanking.commented(FeedBoard.GROUP_FEED, groupFeedId);
 
         //DTO 변환 후 반환
         return new FeedCommentResponseDTO(savedGroupFeedComment.getId(), savedGroupFeedComment.getContent(),
@@ -81,6 +86,8 @@ public class GroupFeedCommentService {
         }
 
         groupFeedCommentRepository.delete(groupFeedComment);
+        groupFeedRepository.addCommentCount(groupFeedComment.getGroupFeed().getId(), -1);
+        hotFeedRanking.commentDeleted(FeedBoard.GROUP_FEED, groupFeedComment.getGroupFeed().getId(), groupFeedComment.getCreatedAt());
 
     }
 }
@@ -0,0 +1,155 @@
+package NPJ.Crewer.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * /crewerimages 전송량 측정.
+ * crewer.images.bytes.served: 실제로 내려보낸 본문 바이트
+ * crewer.images.bytes.saved: 보내지 않아도 된 바이트 (304 응답은 파일 전체, 206 Range 응답은 나머지 부분)
+ */
+@Component
+public class ImageTrafficMetricsFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "/crewerimages/";
+    // 요청 경로와 다른 파일을 보낸 경우(크기 변형) 실제로 보낸 파일 경로(Path)를 담는 요청 속성
+    public static final String SERVED_FILE_ATTRIBUTE = ImageTrafficMetricsFilter.class.getName() + ".servedFile";
+
+    private final Path uploadRoot;
+    private final Counter servedBytes;
+    private final Counter savedNotModifiedBytes;
+    private final Counter savedRangeBytes;
+
+    public ImageTrafficMetricsFilter(MeterRegistry meterRegistry, @Value("${upload.dir}") String uploadDir) {
+        this.uploadRoot = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.servedBytes = Counter.builder("crewer.images.bytes.served")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.savedNotModifiedBytes = Counter.builder("crewer.images.bytes.saved")
+                .baseUnit("bytes")
+                .tag("reason", "not_modified")
+                .register(meterRegistry);
+        this.savedRangeBytes = Counter.builder("crewer.images.bytes.saved")
+                .baseUnit("bytes")
+                .tag("reason", "range")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CountingResponse countingResponse = new CountingResponse(response);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            long written = countingResponse.getBytesWritten();
+            servedBytes.increment(written);
+
+            int status = countingResponse.getStatus();
+            if (status == HttpServletResponse.SC_NOT_MODIFIED) {
+                savedNotModifiedBytes.increment(fileSize(request));
+            } else if (status == HttpServletResponse.SC_PARTIAL_CONTENT) {
+                savedRangeBytes.increment(Math.max(0, fileSize(request) - written));
+            }
+        }
+    }
+
+    // 응답한 파일 크기 (변형 요청이면 컨트롤러가 고른 변형, 아니면 요청 경로의 파일), 찾지 못하면 0
+    private long fileSize(HttpServletRequest request) {
+        Path file = request.getAttribute(SERVED_FILE_ATTRIBUTE) instanceof Path served
+                ? served.toAbsolutePath().normalize()
+                : uploadRoot.resolve(request.getRequestURI().substring(PREFIX.length())).normalize();
+        if (!file.startsWith(uploadRoot)) {
+            return 0;
+        }
+        try {
+            return Files.isRegularFile(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    // 본문으로 쓰인 바이트 수를 세는 응답 래퍼
+    private static class CountingResponse extends HttpServletResponseWrapper {
+
+        private CountingOutputStream outputStream;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        long getBytesWritten() {
+            return outputStream != null ? outputStream.count : 0;
+        }
+    }
+
+    private static class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private long count;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
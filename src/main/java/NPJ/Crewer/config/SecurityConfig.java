@@ -71,7 +71,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/regions/*/districts").permitAll() // 시/도별 모든 행정동 조회 공개
                         .requestMatchers(HttpMethod.GET, "/api/regions/*/districts/search").permitAll() // 시/도별 행정동 검색 공개
                         .requestMatchers(HttpMethod.GET, "/api/regions/districts/*").permitAll() // 행정동 상세 조회 공개
+                        .requestMatchers(HttpMethod.GET, "/api/regions/districts/*/geometry").permitAll() // 행정동 경계 GeoJSON 공개
                         .requestMatchers(HttpMethod.GET, "/api/regions/*/geojson").permitAll() // GeoJSON 데이터 조회 공개
+                        .requestMatchers(HttpMethod.GET, "/api/regions/tiles/**").permitAll() // 행정동 경계 벡터 타일 공개
 
                         //인증이 필요한 일반 피드 (Feed) 관련 요청
                         .requestMatchers(HttpMethod.POST, "/feeds/create").authenticated() // 피드 작성 인증 필요
@@ -95,6 +97,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/running/create").authenticated() // 달리기 기록 저장 인증 필요
                         .requestMatchers(HttpMethod.GET, "/running").authenticated() // 달리기 기록 조회 인증 필요
                         .requestMatchers(HttpMethod.GET, "/running/ranking").authenticated() // 랭킹 조회 인증 필요
+                        .requestMatchers(HttpMethod.GET, "/running/history").authenticated() // 달리기 기록 요약 목록 인증 필요
+                        .requestMatchers(HttpMethod.GET, "/running/{recordId}").authenticated() // 달리기 기록 상세 인증 필요
+                        .requestMatchers("/running/sessions/**").authenticated() // 실시간 러닝 세션 인증 필요
 
                         //인증이 필요한 프로필 관련 요청
                         .requestMatchers(HttpMethod.GET, "/me").authenticated() //프로필 조회 인증 필요
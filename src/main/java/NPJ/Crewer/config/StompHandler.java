@@ -1,5 +1,7 @@
 package NPJ.Crewer.config;
 
+import NPJ.Crewer.chat.ChatSessionContext;
+import NPJ.Crewer.chat.ChatSessionRegistry;
 import NPJ.Crewer.config.JWT.JwtTokenProvider;
 import NPJ.Crewer.member.Member;
 import lombok.RequiredArgsConstructor;
@@ -8,13 +10,20 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 @Component
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
 
+    private static final String UNREAD_TOPIC_PREFIX = "/topic/unread/";
+    private static final String RUN_TOPIC_PREFIX = "/topic/run/";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final ChatSessionRegistry chatSessionRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -26,7 +35,8 @@ public class StompHandler implements ChannelInterceptor {
                 String token = authHeader.substring(7);
                 if (jwtTokenProvider.validateToken(token)) {
                     Member member = jwtTokenProvider.getMemberFromToken(token);
-                    accessor.getSessionAttributes().put("memberId", member.getId());
+                    // memberId, 닉네임, 프로필 사진, 참여 채팅방을 세션 컨텍스트로 보관
+                    chatSessionRegistry.connect(accessor.getSessionId(), accessor.getSessionAttributes(), member);
                 } else {
                     throw new IllegalArgumentException("JWT가 유효하지 않습니다.");
                 }
@@ -34,6 +44,28 @@ public class StompHandler implements ChannelInterceptor {
                 throw new IllegalArgumentException("Authorization 헤더가 없습니다.");
             }
         }
+
+        // 개인 알림(안 읽은 메시지 수)은 본인만 구독 가능
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            String destination = accessor.getDestination();
+            if (destination != null && destination.startsWith(UNREAD_TOPIC_PREFIX)) {
+                Object memberId = accessor.getSessionAttributes().get("memberId");
+                if (memberId == null || !destination.equals(UNREAD_TOPIC_PREFIX + memberId)) {
+                    throw new AccessDeniedException("본인의 알림만 구독할 수 있습니다.");
+                }
+            }
+            // 그룹 러닝 실시간 위치는 해당 채팅방 참여자만 구독 가능
+            if (destination != null && destination.startsWith(RUN_TOPIC_PREFIX)) {
+                UUID chatRoomId;
+                try {
+                    chatRoomId = UUID.fromString(destination.substring(RUN_TOPIC_PREFIX.length()));
+                } catch (IllegalArgumentException e) {
+                    throw new AccessDeniedException("잘못된 구독 경로입니다.");
+                }
+                ChatSessionContext context = chatSessionRegistry.getContext(accessor.getSessionAttributes());
+                chatSessionRegistry.checkRoomAccess(context, chatRoomId);
+            }
+        }
         return message;
     }
 }
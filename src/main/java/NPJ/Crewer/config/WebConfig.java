@@ -2,22 +2,46 @@ package NPJ.Crewer.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.http.CacheControl;
+import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
 public class WebConfig implements WebMvcConfigurer{
+    // 내용 해시로 저장된 파일(및 그 변형)은 내용이 바뀌지 않으므로 1년 동안 재검증 없이 캐시
+    public static final CacheControl IMMUTABLE_IMAGE_CACHE =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    // 예전 방식(memberId_파일명)으로 저장된 파일은 덮어써졌을 수 있으므로 매번 Last-Modified로 재검증
+    public static final CacheControl LEGACY_IMAGE_CACHE = CacheControl.noCache().cachePublic();
+
     @Value("${upload.dir}")
     private String uploadPath;
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/crewerimages/chat/**")
-                .addResourceLocations("file:///" + uploadPath + "/chat/");
-        
-        registry.addResourceHandler("/crewerimages/profile/**")
-                .addResourceLocations("file:///" + uploadPath + "/profile/");
+        for (String category : new String[]{"chat", "profile"}) {
+            String location = "file:///" + uploadPath + "/" + category + "/";
+
+            // {해시 앞 2자리}/{해시}.{확장자}: ETag는 파일 이름의 해시 (Range 요청은 리소스 핸들러가 처리)
+            registry.addResourceHandler("/crewerimages/" + category + "/{shard:[0-9a-f]{2}}/**")
+                    .addResourceLocations(location)
+                    .setCacheControl(IMMUTABLE_IMAGE_CACHE)
+                    .setEtagGenerator(WebConfig::contentHashEtag);
+
+            registry.addResourceHandler("/crewerimages/" + category + "/**")
+                    .addResourceLocations(location)
+                    .setCacheControl(LEGACY_IMAGE_CACHE);
+        }
+    }
+
+    // {hash}.{ext} 또는 {hash}_{size}.jpg 에서 확장자를 뺀 이름
+    public static String contentHashEtag(Resource resource) {
+        return StringUtils.stripFilenameExtension(resource.getFilename());
     }
 }
@@ -1,6 +1,7 @@
 package NPJ.Crewer.config;
 
 
+import NPJ.Crewer.config.broker.BrokerRelayInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -16,6 +17,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final BrokerRelayInterceptor brokerRelayInterceptor;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -28,6 +30,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.enableSimpleBroker("/topic"); //메시지를 구독하는 경로 (ex: /topic/chatroom/1)
         registry.setApplicationDestinationPrefixes("/app"); //클라이언트가 메시지를 보낼 때 접두어
+        // 서버 여러 대 운영 시 /topic 메시지를 다른 인스턴스로 중계 (chat.broker.mode=amqp, 테스트는 embedded)
+        registry.configureBrokerChannel().interceptors(brokerRelayInterceptor);
     }
 
     @Override
@@ -0,0 +1,46 @@
+package NPJ.Crewer.config.broker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// RabbitMQ fanout exchange 기반 중계 (chat.broker.mode=amqp, exchange/큐는 ChatBrokerAmqpConfig)
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "amqp")
+@RequiredArgsConstructor
+public class AmqpChatBrokerRelay implements ChatBrokerRelay {
+
+    private static final String ORIGIN_HEADER = "origin";
+    private static final String DESTINATION_HEADER = "destination";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final BrokerRelayInterceptor brokerRelayInterceptor;
+
+    @Value("${chat.broker.exchange:crewer.chat.topic}")
+    private String exchangeName;
+
+    @Override
+    public void publish(BrokerRelayMessage message) {
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(ORIGIN_HEADER, message.getOrigin());
+        properties.setHeader(DESTINATION_HEADER, message.getDestination());
+        properties.setContentType(message.getContentType());
+        rabbitTemplate.send(exchangeName, "", new Message(message.getPayload(), properties));
+    }
+
+    @RabbitListener(queues = "#{chatBrokerQueue.name}")
+    public void receive(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        brokerRelayInterceptor.deliver(new BrokerRelayMessage(
+                properties.getHeader(ORIGIN_HEADER),
+                properties.getHeader(DESTINATION_HEADER),
+                properties.getContentType(),
+                message.getBody()
+        ));
+    }
+}
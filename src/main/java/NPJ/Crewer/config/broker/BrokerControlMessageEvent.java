@@ -0,0 +1,12 @@
+package NPJ.Crewer.config.broker;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 다른 인스턴스에서 중계된 내부 제어 메시지 (구독자에게 보내지 않고 이 서버의 리스너가 처리)
+@Getter
+@AllArgsConstructor
+public class BrokerControlMessageEvent {
+    private final String destination; // ex) /internal/chat-session
+    private final byte[] payload;
+}
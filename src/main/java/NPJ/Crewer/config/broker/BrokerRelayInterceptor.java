@@ -0,0 +1,108 @@
+package NPJ.Crewer.config.broker;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.UUID;
+
+/**
+ * brokerChannel 인터셉터.
+ * 서버가 /topic으로 보내는 메시지는 로컬 SimpleBroker로 그대로 전달하면서 ChatBrokerRelay로도 발행하고,
+ * 다른 인스턴스에서 중계된 메시지는 deliver()로 로컬 SimpleBroker에 넣어 이 서버의 구독자에게 전달한다.
+ * /internal/ 제어 메시지(세션 권한 무효화 등)는 구독자에게 보내지 않고 BrokerControlMessageEvent로 발행한다.
+ * 중계 모드가 아니면(ChatBrokerRelay 빈이 없으면) 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class BrokerRelayInterceptor implements ChannelInterceptor {
+
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final String CONTROL_PREFIX = "/internal/";
+    private static final String RELAYED_HEADER = "crewerRelayed"; // 중계받은 메시지 표시 (재발행 방지)
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ObjectProvider<ChatBrokerRelay> chatBrokerRelay;
+    private final MessageChannel brokerChannel;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // brokerChannel은 이 인터셉터를 등록하는 WebSocketConfig보다 늦게 만들어지므로 지연 주입
+    public BrokerRelayInterceptor(ObjectProvider<ChatBrokerRelay> chatBrokerRelay,
+                                  @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.chatBrokerRelay = chatBrokerRelay;
+        this.brokerChannel = brokerChannel;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        ChatBrokerRelay relay = chatBrokerRelay.getIfAvailable();
+        if (relay == null || message.getHeaders().containsKey(RELAYED_HEADER)) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null || !destination.startsWith(TOPIC_PREFIX)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        try {
+            MimeType contentType = accessor.getContentType();
+            relay.publish(new BrokerRelayMessage(instanceId, destination,
+                    contentType != null ? contentType.toString() : null, payload));
+        } catch (RuntimeException e) {
+            // 중계에 실패해도 이 서버의 구독자에게는 전달
+            log.error("Failed to relay message to {}: {}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    // 내부 제어 메시지를 다른 인스턴스로 발행 (중계 모드가 아니면 다른 인스턴스가 없으므로 무시)
+    public void publishControl(String destination, byte[] payload) {
+        ChatBrokerRelay relay = chatBrokerRelay.getIfAvailable();
+        if (relay == null) {
+            return;
+        }
+        if (!destination.startsWith(CONTROL_PREFIX)) {
+            throw new IllegalArgumentException("제어 메시지 경로는 " + CONTROL_PREFIX + "로 시작해야 합니다.");
+        }
+        try {
+            relay.publish(new BrokerRelayMessage(instanceId, destination, MimeTypeUtils.APPLICATION_JSON_VALUE, payload));
+        } catch (RuntimeException e) {
+            log.error("Failed to relay control message to {}: {}", destination, e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스가 발행한 메시지를 이 서버의 구독자에게 전달
+    public void deliver(BrokerRelayMessage message) {
+        if (instanceId.equals(message.getOrigin())) {
+            return;
+        }
+        if (message.getDestination().startsWith(CONTROL_PREFIX)) {
+            eventPublisher.publishEvent(new BrokerControlMessageEvent(message.getDestination(), message.getPayload()));
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(message.getDestination());
+        if (message.getContentType() != null) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(message.getContentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        brokerChannel.send(MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,14 @@
+package NPJ.Crewer.config.broker;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 인스턴스 간에 중계되는 /topic 메시지 (payload는 이미 JSON으로 직렬화된 byte[])
+@Getter
+@AllArgsConstructor
+public class BrokerRelayMessage {
+    private final String origin;      // 발행한 인스턴스 id (자기 메시지는 다시 전달하지 않음)
+    private final String destination; // ex) /topic/chat/{chatRoomId}
+    private final String contentType;
+    private final byte[] payload;
+}
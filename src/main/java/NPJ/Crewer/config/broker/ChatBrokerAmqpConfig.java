@@ -0,0 +1,41 @@
+package NPJ.Crewer.config.broker;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 다중 서버 채팅 중계용 RabbitMQ 구성 (chat.broker.mode=amqp).
+ * 인스턴스마다 자동 삭제되는 익명 큐를 fanout exchange에 바인딩하므로, 한 서버가 발행한 /topic 메시지를
+ * 다른 모든 서버가 받아 각자의 구독자에게 전달한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "amqp")
+public class ChatBrokerAmqpConfig {
+
+    @Value("${chat.broker.exchange:crewer.chat.topic}")
+    private String exchangeName;
+
+    @Bean
+    public FanoutExchange chatBrokerExchange() {
+        return new FanoutExchange(exchangeName, true, false);
+    }
+
+    // 인스턴스 전용 큐: 연결이 끊기면 RabbitMQ가 자동 삭제
+    @Bean
+    public Queue chatBrokerQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("crewer.chat."));
+    }
+
+    @Bean
+    public Binding chatBrokerBinding(FanoutExchange chatBrokerExchange, Queue chatBrokerQueue) {
+        return BindingBuilder.bind(chatBrokerQueue).to(chatBrokerExchange);
+    }
+}
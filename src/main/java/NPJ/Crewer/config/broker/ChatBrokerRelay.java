@@ -0,0 +1,7 @@
+package NPJ.Crewer.config.broker;
+
+// 다른 애플리케이션 인스턴스로 /topic 메시지를 전달하는 통로
+public interface ChatBrokerRelay {
+
+    void publish(BrokerRelayMessage message);
+}
@@ -0,0 +1,41 @@
+package NPJ.Crewer.config.broker;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * RabbitMQ 없이 중계 경로를 검증하기 위한 인메모리 대체 브로커 (chat.broker.mode=embedded).
+ * 같은 JVM에서 띄운 애플리케이션 컨텍스트들이 하나의 "클러스터"처럼 서로의 /topic 메시지를 받는다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "embedded")
+@RequiredArgsConstructor
+public class EmbeddedChatBrokerRelay implements ChatBrokerRelay {
+
+    // 현재 JVM에 떠 있는 인스턴스들
+    private static final Set<BrokerRelayInterceptor> NODES = new CopyOnWriteArraySet<>();
+
+    private final BrokerRelayInterceptor brokerRelayInterceptor;
+
+    @PostConstruct
+    public void join() {
+        NODES.add(brokerRelayInterceptor);
+    }
+
+    @PreDestroy
+    public void leave() {
+        NODES.remove(brokerRelayInterceptor);
+    }
+
+    @Override
+    public void publish(BrokerRelayMessage message) {
+        // 발행한 인스턴스는 deliver()에서 걸러짐
+        NODES.forEach(node -> node.deliver(message));
+    }
+}
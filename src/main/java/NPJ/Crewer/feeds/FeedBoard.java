@@ -0,0 +1,17 @@
+package NPJ.Crewer.feeds;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 피드 종류별 테이블 정보 (JdbcTemplate로 직접 다루는 순위/검색 색인에서 사용)
+@Getter
+@RequiredArgsConstructor
+public enum FeedBoard {
+    FEED("feed", "like_feed", "feed_comment", "feed_id"),
+    GROUP_FEED("group_feed", "like_group_feed", "group_feed_comment", "group_feed_id");
+
+    private final String table;
+    private final String likeTable;
+    private final String commentTable;
+    private final String foreignKey;
+}
@@ -0,0 +1,94 @@
+package NPJ.Crewer.feeds;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 피드/그룹 피드의 like_count, comment_count 보정.
+ * 평소에는 좋아요/댓글 서비스가 원자적 UPDATE로 증감하지만, 회원 탈퇴 등으로 행이 함께 지워지면 값이 어긋날 수 있다.
+ * id 범위(batch-size)마다 실제 개수와 다른 행만 고치므로 한 번에 긴 잠금을 잡지 않고,
+ * 컬럼이 처음 추가된 직후(모두 0)에도 같은 방식으로 채워진다.
+ * 범위마다 피드 행을 먼저 잠근 뒤 다음 문장에서 개수를 세므로, 잠그기 직전에 커밋된 좋아요/댓글까지 세고
+ * 잠근 뒤의 증감은 보정이 커밋될 때까지 기다렸다가 그 위에 더해진다.
+ * 여러 서버가 동시에 기동해도 advisory lock을 잡은 한 서버만 보정한다.
+ */
+@Slf4j
+@Component
+public class FeedCounterReconciler {
+
+    private static final long LOCK_KEY = 0x66656564L; // 여러 서버가 동시에 보정하지 않도록 advisory lock
+
+    private static final String LOCK_ROWS_SQL = "SELECT id FROM %1$s WHERE id >= ? AND id < ? ORDER BY id FOR UPDATE";
+
+    private static final String RECONCILE_SQL = """
+            UPDATE %1$s t
+            SET like_count = c.likes, comment_count = c.comments
+            FROM (
+                SELECT f.id,
+                       (SELECT count(*) FROM %2$s l WHERE l.%4$s = f.id) AS likes,
+                       (SELECT count(*) FROM %3$s m WHERE m.%4$s = f.id) AS comments
+                FROM %1$s f
+                WHERE f.id >= ? AND f.id < ?
+            ) c
+            WHERE t.id = c.id AND (t.like_count <> c.likes OR t.comment_count <> c.comments)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    // 보정 전체 동안 advisory lock을 쥐는 트랜잭션
+    private final TransactionTemplate runTemplate;
+    // 범위마다 따로 커밋하는 트랜잭션 (행 잠금은 범위 하나 동안만 유지)
+    private final TransactionTemplate batchTemplate;
+    private final int batchSize;
+
+    public FeedCounterReconciler(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${feed.counter.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.runTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.batchTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.batchTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    // 어긋난 값을 고친 행 수 반환 (다른 서버가 보정 중이면 0)
+    public int reconcile() {
+        Integer fixed = runTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("Feed counter reconciliation is already running on another instance");
+                return 0;
+            }
+            return reconcile("feed", "like_feed", "feed_comment", "feed_id")
+                    + reconcile("group_feed", "like_group_feed", "group_feed_comment", "group_feed_id");
+        });
+        return fixed == null ? 0 : fixed;
+    }
+
+    private int reconcile(String table, String likeTable, String commentTable, String foreignKey) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT max(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+        String lockSql = LOCK_ROWS_SQL.formatted(table);
+        String sql = RECONCILE_SQL.formatted(table, likeTable, commentTable, foreignKey);
+        int fixed = 0;
+        for (long from = 0; from <= maxId; from += batchSize) {
+            long start = from;
+            long end = from + batchSize;
+            Integer updated = batchTemplate.execute(status -> {
+                // 행을 먼저 잠가 진행 중인 증감이 커밋되기를 기다린 뒤, 새 문장에서 커밋된 개수로 다시 센다
+                jdbcTemplate.queryForList(lockSql, Long.class, start, end);
+                return jdbcTemplate.update(sql, start, end);
+            });
+            fixed += updated == null ? 0 : updated;
+        }
+        if (fixed > 0) {
+            log.info("Reconciled like/comment counters of {} ({} rows fixed)", table, fixed);
+        }
+        return fixed;
+    }
+}
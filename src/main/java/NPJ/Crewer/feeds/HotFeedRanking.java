@@ -0,0 +1,242 @@
+package NPJ.Crewer.feeds;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis Sorted Set 기반 인기 피드 순위.
+ * 글 작성, 좋아요, 댓글마다 가중치 x 2^((발생 시각 - 기준 시각) / half-life) 를 ZINCRBY로 더하므로
+ * 모든 점수를 다시 계산하지 않아도 최근 반응일수록 크게 반영되는 시간 감쇠 점수가 유지된다.
+ * 좋아요 취소/댓글 삭제는 그 좋아요/댓글이 만들어진 시각 기준으로 빼므로 더했던 만큼만 빠지고(토글해도 점수가 줄지 않음),
+ * 순위 변경은 트랜잭션 커밋 후에만 반영한다. 좋아요/댓글은 이미 순위에 있는(윈도우 안의) 피드에만 더해
+ * 윈도우 밖의 오래된 글이 반응으로 다시 순위에 들어오지 않는다.
+ * 기준 시각 갱신과 윈도우(window-days) 만료, 오차 보정은 HotFeedRankingScheduler의 재구성이 담당하고,
+ * 재구성 중에 들어온 반응은 교체 시점에 새 순위로 옮겨 담는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotFeedRanking {
+
+    private static final String RANKING_KEY_PREFIX = "hot-feed:"; // ZSET: feedId -> 감쇠 점수
+    private static final String EPOCH_KEY_PREFIX = "hot-feed-epoch:"; // 점수 기준 시각 (epoch millis)
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String SNAPSHOT_SUFFIX = ":snapshot";
+    // 기준 시각(KEYS[2])을 읽어 감쇠 가중치를 더함, ARGV[4]가 1이면 순위에 있는 피드에만 반영
+    // (기준 시각 읽기와 반영을 한 번에 해서 재구성 교체와 섞이지 않게 함)
+    // KEYS: 순위, 기준 시각 / ARGV: 가중치, 발생 시각(ms), half-life(ms), 순위에 있을 때만(1/0), feedId
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = redis.call('get', KEYS[2]) " +
+            "if not epoch then return 0 end " +
+            "if ARGV[4] == '1' and not redis.call('zscore', KEYS[1], ARGV[5]) then return 0 end " +
+            "local delta = tonumber(ARGV[1]) * 2 ^ ((tonumber(ARGV[2]) - tonumber(epoch)) / tonumber(ARGV[3])) " +
+            "redis.call('zincrby', KEYS[1], delta, ARGV[5]) " +
+            "return 1",
+            Long.class);
+    // 재구성 결과로 교체: 스냅샷 이후 현재 순위에 더해진 점수 변화를 새 기준 시각으로 환산(ARGV[1]배)해 옮기고,
+    // 그 사이 삭제된 피드는 빼고, 기준 시각과 순위를 함께 바꾼다.
+    // 새 순위에 없는 피드(윈도우 밖)에는 스냅샷 이후 새로 생긴 경우(새 글)만 더한다.
+    // KEYS: 순위, 스냅샷, 새 순위, 기준 시각 / ARGV: 환산 배율, 새 기준 시각(ms)
+    private static final DefaultRedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "local live = redis.call('zrange', KEYS[1], 0, -1, 'withscores') " +
+            "for i = 1, #live, 2 do " +
+            "  local before = redis.call('zscore', KEYS[2], live[i]) " +
+            "  local diff = tonumber(live[i + 1]) - (before and tonumber(before) or 0) " +
+            "  if diff ~= 0 and (not before or redis.call('zscore', KEYS[3], live[i])) then " +
+            "    redis.call('zincrby', KEYS[3], diff * tonumber(ARGV[1]), live[i]) " +
+            "  end " +
+            "end " +
+            "local snapshot = redis.call('zrange', KEYS[2], 0, -1) " +
+            "for i = 1, #snapshot do " +
+            "  if not redis.call('zscore', KEYS[1], snapshot[i]) then redis.call('zrem', KEYS[3], snapshot[i]) end " +
+            "end " +
+            "redis.call('set', KEYS[4], ARGV[2]) " +
+            "if redis.call('exists', KEYS[3]) == 1 then redis.call('rename', KEYS[3], KEYS[1]) else redis.call('del', KEYS[1]) end " +
+            "redis.call('del', KEYS[2]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${feed.hot.half-life-hours:24}")
+    private double halfLifeHours;
+
+    @Value("${feed.hot.window-days:7}")
+    private int windowDays;
+
+    @Value("${feed.hot.post-weight:1}")
+    private double postWeight;
+
+    @Value("${feed.hot.like-weight:1}")
+    private double likeWeight;
+
+    @Value("${feed.hot.comment-weight:2}")
+    private double commentWeight;
+
+    // 새 글은 항상 윈도우 안이므로 순위에 추가
+    public void posted(FeedBoard board, Long feedId) {
+        add(board, feedId, postWeight, Instant.now(), false);
+    }
+
+    public void liked(FeedBoard board, Long feedId) {
+        add(board, feedId, likeWeight, Instant.now(), true);
+    }
+
+    // likedAt: 취소하는 좋아요가 만들어진 시각 (삭제 전에 읽은 값)
+    public void unliked(FeedBoard board, Long feedId, Instant likedAt) {
+        add(board, feedId, -likeWeight, likedAt, true);
+    }
+
+    public void commented(FeedBoard board, Long feedId) {
+        add(board, feedId, commentWeight, Instant.now(), true);
+    }
+
+    // commentedAt: 삭제하는 댓글이 작성된 시각
+    public void commentDeleted(FeedBoard board, Long feedId, Instant commentedAt) {
+        add(board, feedId, -commentWeight, commentedAt, true);
+    }
+
+    public void removed(FeedBoard board, Long feedId) {
+        afterCommit(() -> {
+            try {
+                zSet().remove(rankingKey(board), String.valueOf(feedId));
+            } catch (RuntimeException e) {
+                log.warn("Failed to remove feed {} from hot ranking: {}", feedId, e.getMessage());
+            }
+        });
+    }
+
+    // 점수 높은 순으로 한 페이지의 피드 id (순서 유지)
+    public Page<Long> getHotFeedIds(FeedBoard board, Pageable pageable) {
+        String rankingKey = rankingKey(board);
+        Long total = zSet().zCard(rankingKey);
+        if (total == null || total == 0) {
+            return Page.empty(pageable);
+        }
+        long start = pageable.getOffset();
+        Set<String> feedIds = zSet().reverseRange(rankingKey, start, start + pageable.getPageSize() - 1);
+        List<Long> ids = feedIds == null ? List.of() : feedIds.stream().map(Long::valueOf).toList();
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    // 윈도우 안의 글/좋아요/댓글로 순위를 다시 만든다 (기준 시각을 현재로 옮겨 점수가 커지지 않게 함)
+    public void rebuild(FeedBoard board) {
+        String rankingKey = rankingKey(board);
+        String snapshotKey = rankingKey + SNAPSHOT_SUFFIX;
+        String tmpRankingKey = rankingKey + REBUILD_SUFFIX;
+
+        // DB를 읽기 전의 순위를 복사해 두고, 교체할 때 그 이후 더해진 반응만 새 순위로 옮긴다
+        redisTemplate.delete(List.of(snapshotKey, tmpRankingKey));
+        zSet().unionAndStore(rankingKey, List.of(), snapshotKey);
+        String previousEpoch = redisTemplate.opsForValue().get(epochKey(board));
+
+        Instant epoch = Instant.now();
+        Timestamp since = Timestamp.from(epoch.minus(Duration.ofDays(windowDays)));
+        Map<Long, Double> scores = new HashMap<>();
+
+        jdbcTemplate.query("SELECT id, created_at FROM " + board.getTable() + " WHERE created_at >= ?",
+                (RowCallbackHandler) rs -> scores.merge(
+                        rs.getLong(1), postWeight * decay(epoch, rs.getTimestamp(2).toInstant()), Double::sum),
+                since);
+        accumulate(board, board.getLikeTable(), likeWeight, since, epoch, scores);
+        accumulate(board, board.getCommentTable(), commentWeight, since, epoch, scores);
+
+        // 임시 키에 채운 뒤 한 번에 교체해 조회 중에 빈 순위가 보이지 않게 한다.
+        if (!scores.isEmpty()) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            scores.forEach((feedId, score) -> tuples.add(new DefaultTypedTuple<>(String.valueOf(feedId), score)));
+            zSet().add(tmpRankingKey, tuples);
+        }
+
+        // 기존 기준 시각으로 쌓인 점수를 새 기준 시각 기준으로 환산하는 배율
+        double rescale = previousEpoch == null ? 1 : decay(epoch, Instant.ofEpochMilli(Long.parseLong(previousEpoch)));
+        redisTemplate.execute(SWAP_SCRIPT, List.of(rankingKey, snapshotKey, tmpRankingKey, epochKey(board)),
+                String.valueOf(rescale), String.valueOf(epoch.toEpochMilli()));
+    }
+
+    private void accumulate(FeedBoard board, String table, double weight, Timestamp since, Instant epoch, Map<Long, Double> scores) {
+        jdbcTemplate.query("SELECT x." + board.getForeignKey() + ", x.created_at FROM " + table + " x " +
+                        "JOIN " + board.getTable() + " f ON f.id = x." + board.getForeignKey() + " " +
+                        "WHERE f.created_at >= ?",
+                (RowCallbackHandler) rs -> {
+                    long feedId = rs.getLong(1);
+                    if (scores.containsKey(feedId)) {
+                        scores.merge(feedId, weight * decay(epoch, rs.getTimestamp(2).toInstant()), Double::sum);
+                    }
+                }, since);
+    }
+
+    // at 시각에 발생한 반응의 감쇠 가중치를 더함 (음수면 빼기), 트랜잭션 안이면 커밋 후 반영
+    // onlyIfRanked: 순위에 있는(윈도우 안의) 피드에만 반영, 아직 재구성 전(기준 시각 없음)이면 재구성 때 반영
+    private void add(FeedBoard board, Long feedId, double weight, Instant at, boolean onlyIfRanked) {
+        Instant occurredAt = at != null ? at : Instant.now();
+        afterCommit(() -> {
+            try {
+                redisTemplate.execute(ADD_SCRIPT, List.of(rankingKey(board), epochKey(board)),
+                        String.valueOf(weight),
+                        String.valueOf(occurredAt.toEpochMilli()),
+                        String.valueOf((long) (halfLifeHours * 3_600_000)),
+                        onlyIfRanked ? "1" : "0",
+                        String.valueOf(feedId));
+            } catch (RuntimeException e) {
+                // 순위 반영 실패가 좋아요/댓글 저장을 막지 않도록 하고, 주기적 재구성으로 보정한다.
+                log.warn("Failed to update hot ranking for feed {}: {}", feedId, e.getMessage());
+            }
+        });
+    }
+
+    // 롤백된 글/좋아요/댓글이 순위에 남지 않도록 커밋 후 실행 (트랜잭션 밖이면 바로 실행)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 기준 시각 이후 half-life마다 2배 (최근 반응일수록 큰 가중치)
+    private double decay(Instant epoch, Instant at) {
+        double hours = Duration.between(epoch, at).toMillis() / 3_600_000.0;
+        return Math.pow(2, hours / halfLifeHours);
+    }
+
+    private static String rankingKey(FeedBoard board) {
+        return RANKING_KEY_PREFIX + board.getTable();
+    }
+
+    private static String epochKey(FeedBoard board) {
+        return EPOCH_KEY_PREFIX + board.getTable();
+    }
+
+    private ZSetOperations<String, String> zSet() {
+        return redisTemplate.opsForZSet();
+    }
+}
@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -47,6 +48,16 @@ public class Feed {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    // 목록 조회 때 집계하지 않도록 유지하는 좋아요/댓글 수
+    // 엔티티 저장으로 덮어쓰지 않도록 updatable = false, 증감은 원자적 UPDATE로만 (드리프트는 FeedCounterReconciler가 보정)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long likeCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
     @OneToMany(mappedBy = "feed", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @BatchSize(size = 100)
     private List<FeedComment> comments = new ArrayList<>();
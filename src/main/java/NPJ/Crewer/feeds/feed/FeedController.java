@@ -4,6 +4,7 @@ import NPJ.Crewer.feeds.feed.dto.FeedDetailResponseDTO;
 import NPJ.Crewer.feeds.feed.dto.FeedCreateDTO;
 import NPJ.Crewer.feeds.feed.dto.FeedResponseDTO;
 import NPJ.Crewer.feeds.feed.dto.FeedUpdateDTO;
+import NPJ.Crewer.feeds.search.dto.FeedSearchSliceDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -63,6 +64,14 @@ public class FeedController {
         return ResponseEntity.ok(searchedFeeds);
     }
 
+    //Feed 검색 (관련도순, 커서 기반)
+    @GetMapping("/search")
+    public ResponseEntity<FeedSearchSliceDTO<FeedResponseDTO>> searchFeeds(@RequestParam("keyword") String keyword,
+                                                                           @RequestParam(value = "cursor", required = false) String cursor,
+                                                                           @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(feedService.searchFeeds(keyword, cursor, size));
+    }
+
     //Feed 상세 페이지 조회
     @GetMapping("/{feedId}")
     public ResponseEntity<FeedDetailResponseDTO> getFeedById(@PathVariable("feedId") Long feedId,
@@ -6,11 +6,11 @@ import NPJ.Crewer.member.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,13 +23,6 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
     @Query("SELECT f.id FROM Feed f ORDER BY f.createdAt DESC")
     Page<Long> findFeedIds(Pageable pageable);
 
-    // 좋아요순(최근 일주일)으로  정렬된 GroupFeed의 ID를 페이징하여 조회
-    @Query("SELECT f.id FROM Feed f LEFT JOIN f.likes l " +
-            "WHERE f.createdAt >= :sevenDaysAgo " +
-            "GROUP BY f.id " +
-            "ORDER BY COUNT(l) DESC, f.createdAt DESC")
-    Page<Long> findHotFeedIds(@Param("sevenDaysAgo") Instant sevenDaysAgo, Pageable pageable);
-
     //검색 기능을 위해 title, content, nickname을 기준으로 id 조회
     @Query("SELECT f.id FROM Feed f JOIN f.author a " +
             "WHERE a.nickname LIKE %:keyword% " +
@@ -40,11 +33,10 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
 
     //조회된 id를 기준으로 join하여 N+1문제를 해결 -------------------
 
-    //id만 조회한 후 상세 정보(좋아요, 댓글 수)를 조회
+    //id만 조회한 후 상세 정보(좋아요, 댓글 수)를 조회 (수는 미리 계산된 컬럼 사용)
     @Query("SELECT new NPJ.Crewer.feeds.feed.dto.FeedResponseDTO(" +
             "    f.id, f.title, f.content, f.author.nickname, f.author.username, f.author.profile.avatarUrl, f.createdAt, " +
-            "    (SELECT COUNT(l) FROM LikeFeed l WHERE l.feed = f), " +
-            "    (SELECT COUNT(c) FROM FeedComment c WHERE c.feed = f)" +
+            "    f.likeCount, f.commentCount" +
             ") " +
             "FROM Feed f " +
             "WHERE f.id IN :ids")
@@ -53,8 +45,7 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
     // 작성자 기준 DTO 리스트 조회
     @Query("SELECT new NPJ.Crewer.feeds.feed.dto.FeedResponseDTO(" +
             "    f.id, f.title, f.content, f.author.nickname, f.author.username, f.author.profile.avatarUrl, f.createdAt, " +
-            "    (SELECT COUNT(l) FROM LikeFeed l WHERE l.feed = f), " +
-            "    (SELECT COUNT(c) FROM FeedComment c WHERE c.feed = f)" +
+            "    f.likeCount, f.commentCount" +
             ") " +
             "FROM Feed f WHERE f.author = :author ORDER BY f.createdAt DESC")
     List<FeedResponseDTO> findByAuthor(@Param("author") Member author);
@@ -65,4 +56,16 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
             "LEFT JOIN FETCH f.comments " +
             "WHERE f.id = :feedId")
     Optional<Feed> findByIdForFeedDetail(@Param("feedId") Long feedId);
+
+    //좋아요/댓글 수 원자적 증감 (동시에 눌러도 유실 없음, 0 아래로 내려가지 않음)
+    @Modifying
+    @Query(value = "UPDATE feed SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :feedId", nativeQuery = true)
+    int addLikeCount(@Param("feedId") Long feedId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE feed SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :feedId", nativeQuery = true)
+    int addCommentCount(@Param("feedId") Long feedId, @Param("delta") long delta);
+
+    @Query("SELECT f.likeCount FROM Feed f WHERE f.id = :feedId")
+    Optional<Long> findLikeCountById(@Param("feedId") Long feedId);
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package NPJ.Crewer.feeds.feed;
 
+import NPJ.Crewer.feeds.FeedBoard;
+import NPJ.Crewer.feeds.HotFeedRanking;
 import NPJ.Crewer.feeds.feed.dto.FeedCreateDTO;
 import NPJ.Crewer.feeds.feed.dto.FeedDetailResponseDTO;
 import NPJ.Crewer.feeds.feed.dto.FeedResponseDTO;
 import NPJ.Crewer.feeds.feed.dto.FeedUpdateDTO;
+import NPJ.Crewer.feeds.search.FeedSearchIndex;
+import NPJ.Crewer.feeds.search.dto.FeedSearchSliceDTO;
 import NPJ.Crewer.member.Member;
 import NPJ.Crewer.member.MemberRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -16,8 +20,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -26,6 +29,8 @@ public class FeedService {
 
     private final FeedRepository feedRepository;
     private final MemberRepository memberRepository;
+    private final HotFeedRanking hotFeedRanking;
+    private final FeedSearchIndex feedSearchIndex;
 
     //Feed 생성하기
     @Transactional
@@ -42,6 +47,8 @@ public class FeedService {
                 .build();
 
         Feed savedFeed = feedRepository.save(feed);
+        feedSearchIndex.index(FeedBoard.FEED, savedFeed.getId(), savedFeed.getTitle(), savedFeed.getContent(), member.getNickname());
+        hotFeedRanking.posted(FeedBoard.FEED, savedFeed.getId());
 
         return new FeedResponseDTO(
                 savedFeed.getId(),
@@ -78,17 +85,16 @@ public class FeedService {
     //Feed 리스트 조회 인기순 (페이징 20개씩)
     @Transactional(readOnly = true)
     public Page<FeedResponseDTO> getAllHotFeeds(Pageable pageable) {
-        Instant sevenDaysAgo = Instant.now().minus(7, ChronoUnit.DAYS);
-        //N + 1 문제를 해결하기 위해 id를 불러와 id기준으로 댓글, 좋아요를 불러옴
-        Page<Long> feedIdsPage = feedRepository.findHotFeedIds(sevenDaysAgo, pageable);
+        //1단계: 인기 순위(Redis Sorted Set)에서 점수순 id 조회
+        Page<Long> feedIdsPage = hotFeedRanking.getHotFeedIds(FeedBoard.FEED, pageable);
         List<Long> ids = feedIdsPage.getContent();
 
         if (ids.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        // 2단계: ID 목록으로 엔티티와 컬렉션을 함께 조회
-        List<FeedResponseDTO> content = feedRepository.findFeedInfoByIds(ids);
+        // 2단계: ID 목록으로 조회 후 순위 순서대로 정렬
+        List<FeedResponseDTO> content = orderByIds(feedRepository.findFeedInfoByIds(ids), ids);
 
         // 3단계: DTO로 변환
         return new PageImpl<>(content, pageable, feedIdsPage.getTotalElements());
@@ -97,36 +103,52 @@ public class FeedService {
     //메인화면에서 보여줄 Hot Feed 2개를 조회
     @Transactional(readOnly = true)
     public Page<FeedResponseDTO> getHotFeedsForMain() {
-        Instant threeDaysAgo = Instant.now().minus(3, ChronoUnit.DAYS);
         Pageable topTwo = PageRequest.of(0, 2); // 0번째 페이지에서 2개만 조회
 
         // 1단계: Hot Feed ID 조회
-        Page<Long> hotFeedIdsPage = feedRepository.findHotFeedIds(threeDaysAgo, topTwo);
+        Page<Long> hotFeedIdsPage = hotFeedRanking.getHotFeedIds(FeedBoard.FEED, topTwo);
         List<Long> ids = hotFeedIdsPage.getContent();
 
         if (ids.isEmpty()) {
             return Page.empty(topTwo);
         }
 
-        List<FeedResponseDTO> content = feedRepository.findFeedInfoByIds(ids);
+        List<FeedResponseDTO> content = orderByIds(feedRepository.findFeedInfoByIds(ids), ids);
 
         return new PageImpl<>(content, topTwo, hotFeedIdsPage.getTotalElements());
     }
 
     @Transactional(readOnly = true)
     public Page<FeedResponseDTO> getFeedsByKeyword(Pageable pageable, String keyword) {
-        Page<Long> feedIdsPage = feedRepository.findFeedIdsByKeyword(keyword, pageable);
+        //검색 색인(관련도순) 사용, 색인을 쓸 수 없는 DB(H2 등)에서는 LIKE 검색
+        Page<Long> feedIdsPage = feedSearchIndex.isSupported()
+                ? feedSearchIndex.searchPage(FeedBoard.FEED, keyword, pageable)
+                : feedRepository.findFeedIdsByKeyword(keyword, pageable);
         List<Long> ids = feedIdsPage.getContent();
 
         if (ids.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        List<FeedResponseDTO> content = feedRepository.findFeedInfoByIds(ids);
+        List<FeedResponseDTO> content = orderByIds(feedRepository.findFeedInfoByIds(ids), ids);
 
         return new PageImpl<>(content, pageable, feedIdsPage.getTotalElements());
     }
 
+    //검색 (관련도순, 커서 기반: 응답의 nextCursor로 다음 페이지 요청)
+    @Transactional(readOnly = true)
+    public FeedSearchSliceDTO<FeedResponseDTO> searchFeeds(String keyword, String cursor, int size) {
+        FeedSearchSliceDTO<Long> slice = feedSearchIndex.search(FeedBoard.FEED, keyword, cursor, size);
+        List<Long> ids = slice.getContent();
+
+        if (ids.isEmpty()) {
+            return new FeedSearchSliceDTO<>(List.of(), null);
+        }
+
+        List<FeedResponseDTO> content = orderByIds(feedRepository.findFeedInfoByIds(ids), ids);
+        return new FeedSearchSliceDTO<>(content, slice.getNextCursor());
+    }
+
 
 
     //특정 Feed 상세 조회
@@ -165,6 +187,7 @@ public class FeedService {
 
         //피드 수정
         feed.update(feedUpdateDTO.getTitle(), feedUpdateDTO.getContent());
+        feedSearchIndex.index(FeedBoard.FEED, feedId, feed.getTitle(), feed.getContent(), member.getNickname());
 
         return new FeedResponseDTO(feed);
     }
@@ -206,5 +229,14 @@ public class FeedService {
         }
 
         feedRepository.delete(feed);
+        feedSearchIndex.remove(FeedBoard.FEED, feedId);
+        hotFeedRanking.removed(FeedBoard.FEED, feedId);
+    }
+
+    // IN 조회 결과를 id 목록 순서로 정렬
+    private List<FeedResponseDTO> orderByIds(List<FeedResponseDTO> feeds, List<Long> ids) {
+        return feeds.stream()
+                .sorted(Comparator.comparingInt(feed -> ids.indexOf(feed.getId())))
+                .toList();
     }
 }
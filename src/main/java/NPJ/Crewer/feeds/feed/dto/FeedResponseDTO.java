@@ -29,8 +29,8 @@ public class FeedResponseDTO {
         this.authorUsername = feed.getAuthor().getUsername();
         this.authorAvatarUrl = feed.getAuthor().getProfile().getAvatarUrl();
         this.createdAt = feed.getCreatedAt();
-        this.likesCount = feed.getLikes().size();
-        this.commentsCount = feed.getComments().size();
+        this.likesCount = (int) feed.getLikeCount();
+        this.commentsCount = (int) feed.getCommentCount();
     }
 
     // 수정: JPQL DTO 프로젝션을 위해 아래 생성자를 추가합니다.
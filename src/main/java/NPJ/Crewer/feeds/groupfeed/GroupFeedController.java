@@ -7,6 +7,7 @@ import NPJ.Crewer.feeds.groupfeed.dto.GroupFeedDetailResponseDTO;
 import NPJ.Crewer.feeds.groupfeed.dto.GroupFeedResponseDTO;
 import NPJ.Crewer.feeds.groupfeed.dto.GroupFeedUpdateDTO;
 import NPJ.Crewer.feeds.groupfeed.dto.GroupFeedCompleteResponseDTO;
+import NPJ.Crewer.feeds.search.dto.FeedSearchSliceDTO;
 import NPJ.Crewer.notification.NotificationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -90,6 +91,14 @@ public class GroupFeedController {
         return ResponseEntity.ok(searchedGroupFeeds);
     }
 
+    //GroupFeed 검색 (관련도순, 커서 기반)
+    @GetMapping("/search")
+    public ResponseEntity<FeedSearchSliceDTO<GroupFeedResponseDTO>> searchGroupFeeds(@RequestParam("keyword") String keyword,
+                                                                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                     @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(groupFeedService.searchGroupFeeds(keyword, cursor, size));
+    }
+
     //GroupFeed 상세 페이지 조회
     @GetMapping("/{groupFeedId}")
     @PreAuthorize("isAuthenticated()")
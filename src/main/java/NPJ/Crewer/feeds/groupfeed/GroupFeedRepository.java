@@ -24,14 +24,6 @@ public interface GroupFeedRepository extends JpaRepository<GroupFeed, Long> {
     Page<Long> findGroupFeedIds(Pageable pageable);
 
 
-    //좋아요순(최근 일주일)으로 정렬된 GroupFeed의 ID를 페이징하여 조회
-    @Query(value = "SELECT gf.id FROM GroupFeed gf LEFT JOIN gf.likes l " +
-            "WHERE gf.createdAt >= :sevenDaysAgo " +
-            "GROUP BY gf.id " +
-            "ORDER BY COUNT(l) DESC, gf.createdAt DESC")
-    Page<Long> findHotGroupFeedIds(@Param("sevenDaysAgo")Instant sevenDaysAgo, Pageable pageable);
-
-
     //마감 임박 또는 인기 있는 GroupFeed의 ID를 페이징하여 조회
     @Query("SELECT gf.id " +
             "FROM GroupFeed gf JOIN gf.chatRoom cr " +
@@ -54,8 +46,7 @@ public interface GroupFeedRepository extends JpaRepository<GroupFeed, Long> {
     @Query("SELECT new NPJ.Crewer.feeds.groupfeed.dto.GroupFeedResponseDTO(" +
             "    gf.id, gf.title, gf.content, gf.author.nickname, gf.author.username, gf.author.profile.avatarUrl, " +
             "    gf.meetingPlace, gf.latitude, gf.longitude, gf.deadline, gf.chatRoom.id, gf.chatRoom.currentParticipants, gf.chatRoom.maxParticipants, gf.createdAt, " +
-            "    (SELECT COUNT(l) FROM LikeGroupFeed l WHERE l.groupFeed = gf), " +
-            "    (SELECT COUNT(c) FROM GroupFeedComment c WHERE c.groupFeed = gf)" +
+            "    gf.likeCount, gf.commentCount" +
             ") " +
             "FROM GroupFeed gf LEFT JOIN gf.chatRoom cr " +
             "WHERE gf.id IN :ids")
@@ -68,8 +59,7 @@ public interface GroupFeedRepository extends JpaRepository<GroupFeed, Long> {
     @Query("SELECT new NPJ.Crewer.feeds.groupfeed.dto.GroupFeedResponseDTO(" +
             "    gf.id, gf.title, gf.content, gf.author.nickname, gf.author.username, gf.author.profile.avatarUrl, " +
             "    gf.meetingPlace, gf.latitude, gf.longitude, gf.deadline, gf.chatRoom.id, gf.chatRoom.currentParticipants, gf.chatRoom.maxParticipants, gf.createdAt, " +
-            "    (SELECT COUNT(l) FROM LikeGroupFeed l WHERE l.groupFeed = gf), " +
-            "    (SELECT COUNT(c) FROM GroupFeedComment c WHERE c.groupFeed = gf)" +
+            "    gf.likeCount, gf.commentCount" +
             ") " +
             "FROM GroupFeed gf JOIN gf.chatRoom cr " +
             "WHERE gf.author = :author ORDER BY gf.createdAt DESC")
@@ -108,4 +98,16 @@ public interface GroupFeedRepository extends JpaRepository<GroupFeed, Long> {
     //GroupFeed 상태 조회 (중복 종료 방지용)
     @Query("SELECT gf.status FROM GroupFeed gf WHERE gf.id = :groupFeedId")
     Optional<GroupFeedStatus> findStatusById(@Param("groupFeedId") Long groupFeedId);
+
+    //좋아요/댓글 수 원자적 증감 (동시에 눌러도 유실 없음, 0 아래로 내려가지 않음)
+    @Modifying
+    @Query(value = "UPDATE group_feed SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :groupFeedId", nativeQuery = true)
+    int addLikeCount(@Param("groupFeedId") Long groupFeedId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE group_feed SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :groupFeedId", nativeQuery = true)
+    int addCommentCount(@Param("groupFeedId") Long groupFeedId, @Param("delta") long delta);
+
+    @Query("SELECT gf.likeCount FROM GroupFeed gf WHERE gf.id = :groupFeedId")
+    Optional<Long> findLikeCountById(@Param("groupFeedId") Long groupFeedId);
 }
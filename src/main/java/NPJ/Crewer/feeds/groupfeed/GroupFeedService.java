@@ -4,13 +4,18 @@ import NPJ.Crewer.chat.chatparticipant.ChatParticipant;
 import NPJ.Crewer.chat.chatparticipant.ChatParticipantRepository;
 import NPJ.Crewer.chat.chatroom.ChatRoom;
 import NPJ.Crewer.chat.chatroom.ChatRoomRepository;
+import NPJ.Crewer.chat.chatroom.ChatRoomTeardownService;
 import NPJ.Crewer.chat.chatroom.dto.ChatRoomResponseDTO;
 import NPJ.Crewer.comments.groupfeedcomment.GroupFeedCommentRepository;
+import NPJ.Crewer.feeds.FeedBoard;
+import NPJ.Crewer.feeds.HotFeedRanking;
 import NPJ.Crewer.feeds.groupfeed.dto.GroupFeedCreateDTO;
 import NPJ.Crewer.feeds.groupfeed.dto.GroupFeedDetailResponseDTO;
 import NPJ.Crewer.feeds.groupfeed.dto.GroupFeedResponseDTO;
 import NPJ.Crewer.feeds.groupfeed.dto.GroupFeedUpdateDTO;
 import NPJ.Crewer.feeds.groupfeed.dto.GroupFeedCompleteResponseDTO;
+import NPJ.Crewer.feeds.search.FeedSearchIndex;
+import NPJ.Crewer.feeds.search.dto.FeedSearchSliceDTO;
 import NPJ.Crewer.likes.likegroupfeed.LikeGroupFeedRepository;
 import NPJ.Crewer.member.Member;
 import NPJ.Crewer.member.MemberRepository;
@@ -28,6 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 
@@ -40,9 +46,12 @@ public class GroupFeedService {
     private final GroupFeedCommentRepository groupFeedCommentRepository;
 
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomTeardownService chatRoomTeardownService;
     private final ChatParticipantRepository chatParticipantRepository;
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
+    private final HotFeedRanking hotFeedRanking;
+    private final FeedSearchIndex feedSearchIndex;
 
     // GroupFeed 생성 (채팅방까지 자동 생성)
     @Transactional
@@ -72,6 +81,8 @@ public class GroupFeedService {
                 .deadline(groupFeedCreateDTO.getDeadline())
                 .build();
         GroupFeed savedGroupFeed = groupFeedRepository.save(groupFeed);
+        feedSearchIndex.index(FeedBoard.GROUP_FEED, savedGroupFeed.getId(), savedGroupFeed.getTitle(), savedGroupFeed.getContent(), member.getNickname());
+        hotFeedRanking.posted(FeedBoard.GROUP_FEED, savedGroupFeed.getId());
 
         // currentParticipants 값을 1 증가시킴
         chatRoom.addParticipant();
@@ -122,15 +133,15 @@ public class GroupFeedService {
     //모든 GroupFeed 리스트 조회 인기순(페이징 20개씩)
     @Transactional(readOnly = true)
     public Page<GroupFeedResponseDTO> getAllHotGroupFeeds(Pageable pageable) {
-        Instant threeDaysAgo = Instant.now().minus(7, ChronoUnit.DAYS);
-        Page<Long> idsPage = groupFeedRepository.findHotGroupFeedIds(threeDaysAgo, pageable);
+        // 인기 순위(Redis Sorted Set)에서 점수순 id 조회 후 같은 순서로 정렬
+        Page<Long> idsPage = hotFeedRanking.getHotFeedIds(FeedBoard.GROUP_FEED, pageable);
         List<Long> ids = idsPage.getContent();
 
         if (ids.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        List<GroupFeedResponseDTO> content = groupFeedRepository.findGroupFeedInfoByIds(ids);
+        List<GroupFeedResponseDTO> content = orderByIds(groupFeedRepository.findGroupFeedInfoByIds(ids), ids);
         return new PageImpl<>(content, pageable, idsPage.getTotalElements());
     }
 
@@ -163,18 +174,35 @@ public class GroupFeedService {
 
     @Transactional(readOnly = true)
     public Page<GroupFeedResponseDTO> getGroupFeedsByKeyword(Pageable pageable, String keyword) {
-        Page<Long> groupFeedIdsPage = groupFeedRepository.findIdsByKeyword(keyword, pageable);
+        //검색 색인(관련도순) 사용, 색인을 쓸 수 없는 DB(H2 등)에서는 LIKE 검색
+        Page<Long> groupFeedIdsPage = feedSearchIndex.isSupported()
+                ? feedSearchIndex.searchPage(FeedBoard.GROUP_FEED, keyword, pageable)
+                : groupFeedRepository.findIdsByKeyword(keyword, pageable);
         List<Long> ids = groupFeedIdsPage.getContent();
 
         if (ids.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        List<GroupFeedResponseDTO> content = groupFeedRepository.findGroupFeedInfoByIds(ids);
+        List<GroupFeedResponseDTO> content = orderByIds(groupFeedRepository.findGroupFeedInfoByIds(ids), ids);
 
         return new PageImpl<>(content, pageable, groupFeedIdsPage.getTotalElements());
     }
 
+    //검색 (관련도순, 커서 기반: 응답의 nextCursor로 다음 페이지 요청)
+    @Transactional(readOnly = true)
+    public FeedSearchSliceDTO<GroupFeedResponseDTO> searchGroupFeeds(String keyword, String cursor, int size) {
+        FeedSearchSliceDTO<Long> slice = feedSearchIndex.search(FeedBoard.GROUP_FEED, keyword, cursor, size);
+        List<Long> ids = slice.getContent();
+
+        if (ids.isEmpty()) {
+            return new FeedSearchSliceDTO<>(List.of(), null);
+        }
+
+        List<GroupFeedResponseDTO> content = orderByIds(groupFeedRepository.findGroupFeedInfoByIds(ids), ids);
+        return new FeedSearchSliceDTO<>(content, slice.getNextCursor());
+    }
+
 
     //특정 GroupFeed 상세 조회
     @Transactional(readOnly = true)
@@ -210,6 +238,7 @@ public class GroupFeedService {
 
         //Feed 수정
         groupFeed.update(groupFeedUpdateDTO.getTitle(), groupFeedUpdateDTO.getContent(), groupFeedUpdateDTO.getMaxParticipants(), groupFeedUpdateDTO.getMeetingPlace(), groupFeedUpdateDTO.getLatitude(), groupFeedUpdateDTO.getLongitude(),groupFeedUpdateDTO.getDeadline());
+        feedSearchIndex.index(FeedBoard.GROUP_FEED, groupFeedId, groupFeed.getTitle(), groupFeed.getContent(), member.getNickname());
 
         return new GroupFeedResponseDTO(groupFeed);
     }
@@ -260,9 +289,12 @@ public class GroupFeedService {
         ChatRoom chatRoom = groupFeed.getChatRoom();
 
         groupFeedRepository.delete(groupFeed);
+        hotFeedRanking.removed(FeedBoard.GROUP_FEED, groupFeedId);
+        feedSearchIndex.remove(FeedBoard.GROUP_FEED, groupFeedId);
 
+        // 참여자는 이 트랜잭션에서 내보내고, 채팅방은 메시지가 많을 수 있으므로 커밋 후 비동기로 나눠서 삭제
         if (deleteChatRoom && chatRoom != null) {
-            chatRoomRepository.delete(chatRoom);
+            chatRoomTeardownService.evictParticipantsAndTeardownAfterCommit(chatRoom.getId());
         }
     }
 
@@ -303,9 +335,11 @@ public class GroupFeedService {
         chatRoom.addParticipant();
 
         // 새 ChatParticipant 생성 및 저장 (이미 Member 객체가 매개변수로 주어졌으므로 조회 불필요)
+        // 참여 이전의 대화는 안 읽은 메시지로 세지 않음
         ChatParticipant participant = ChatParticipant.builder()
                 .chatRoom(chatRoom)
                 .member(member)
+                .lastReadMessageId(chatRoom.getLastMessageId())
                 .build();
         chatParticipantRepository.save(participant);
 
@@ -428,4 +462,10 @@ public class GroupFeedService {
                 })
                 .collect(Collectors.toList());
     }
+    // IN 조회 결과를 id 목록 순서로 정렬
+    private List<GroupFeedResponseDTO> orderByIds(List<GroupFeedResponseDTO> groupFeeds, List<Long> ids) {
+        return groupFeeds.stream()
+                .sorted(Comparator.comparingInt(groupFeed -> ids.indexOf(groupFeed.getId())))
+                .toList();
+    }
 }
\ No newline at end of file
@@ -42,8 +42,8 @@ public class GroupFeedResponseDTO {
         this.currentParticipants = groupFeed.getChatRoom().getCurrentParticipants();
         this.createdAt = groupFeed.getCreatedAt();
         this.maxParticipants = groupFeed.getChatRoom().getMaxParticipants();
-        this.likesCount = groupFeed.getLikes() != null ? groupFeed.getLikes().size() : 0;
-        this.commentsCount = groupFeed.getComments() != null ? groupFeed.getComments().size() : 0;
+        this.likesCount = (int) groupFeed.getLikeCount();
+        this.commentsCount = (int) groupFeed.getCommentCount();
     }
 
 
@@ -0,0 +1,209 @@
+package NPJ.Crewer.feeds.search;
+
+import NPJ.Crewer.feeds.FeedBoard;
+import NPJ.Crewer.feeds.search.dto.FeedSearchSliceDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 피드/그룹 피드 전문 검색 색인 (PostgreSQL 전용).
+ * 제목(A) / 작성자 닉네임(B) / 내용(C) 의 bigram을 가중치를 붙인 tsvector로 feed_search_document에 저장하고 GIN 색인으로 찾는다.
+ * 색인은 글 작성/수정/삭제와 닉네임 변경 때 같은 트랜잭션에서 갱신되고, 기동 시 색인이 없는 글을 채운다.
+ * 결과는 ts_rank_cd 관련도순이며 (관련도, id) 커서로 다음 페이지를 이어 읽는다.
+ */
+@Slf4j
+@Component
+public class FeedSearchIndex {
+
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO feed_search_document (board, feed_id, document) VALUES (?, ?, " +
+            "setweight(array_to_tsvector(?::text[]), 'A') || " +
+            "setweight(array_to_tsvector(?::text[]), 'B') || " +
+            "setweight(array_to_tsvector(?::text[]), 'C')) " +
+            "ON CONFLICT (board, feed_id) DO UPDATE SET document = EXCLUDED.document";
+    private static final String RANKED_SQL =
+            "SELECT s.feed_id, s.rank FROM (" +
+            "SELECT d.feed_id, ts_rank_cd(d.document, q.query) AS rank " +
+            "FROM feed_search_document d, (SELECT CAST(? AS tsquery) AS query) q " +
+            "WHERE d.board = ? AND d.document @@ q.query) s ";
+    private static final String AFTER_CURSOR = "WHERE s.rank < ? OR (s.rank = ? AND s.feed_id < ?) ";
+    private static final String ORDER_BY_RANK = "ORDER BY s.rank DESC, s.feed_id DESC ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private Boolean supported;
+
+    public FeedSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 색인 테이블 준비 후 색인이 없는 글 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!isSupported()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS feed_search_document (" +
+                    "board varchar(16) NOT NULL, feed_id bigint NOT NULL, document tsvector NOT NULL, " +
+                    "PRIMARY KEY (board, feed_id))");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_feed_search_document ON feed_search_document USING GIN (document)");
+            for (FeedBoard board : FeedBoard.values()) {
+                int indexed = backfill(board);
+                if (indexed > 0) {
+                    log.info("Indexed {} {} rows for search", indexed, board.getTable());
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to initialize feed search index: {}", e.getMessage(), e);
+        }
+    }
+
+    public boolean isSupported() {
+        if (supported == null) {
+            supported = "PostgreSQL".equals(jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        }
+        return supported;
+    }
+
+    // 글 작성/수정 시 색인 (호출한 트랜잭션과 함께 커밋)
+    public void index(FeedBoard board, Long feedId, String title, String content, String authorNickname) {
+        if (!isSupported()) {
+            return;
+        }
+        jdbcTemplate.update(UPSERT_SQL, board.getTable(), feedId,
+                FeedSearchTokenizer.documentTokens(title),
+                FeedSearchTokenizer.documentTokens(authorNickname),
+                FeedSearchTokenizer.documentTokens(content));
+    }
+
+    public void remove(FeedBoard board, Long feedId) {
+        if (!isSupported()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM feed_search_document WHERE board = ? AND feed_id = ?", board.getTable(), feedId);
+    }
+
+    // 닉네임이 바뀐 작성자의 글 다시 색인
+    public void reindexAuthor(Long memberId, String nickname) {
+        if (!isSupported()) {
+            return;
+        }
+        for (FeedBoard board : FeedBoard.values()) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "SELECT id, title, content FROM " + board.getTable() + " WHERE author_id = ?",
+                    (rs, rowNum) -> toUpsertArgs(board, rs.getLong(1), rs.getString(2), rs.getString(3), nickname),
+                    memberId);
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            }
+        }
+    }
+
+    // 관련도순 커서 검색: cursor 다음부터 size개의 id와 다음 커서
+    public FeedSearchSliceDTO<Long> search(FeedBoard board, String keyword, String cursor, int size) {
+        if (!isSupported()) {
+            throw new IllegalStateException("검색 색인을 사용할 수 없습니다.");
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Set<String> tokens = FeedSearchTokenizer.queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return new FeedSearchSliceDTO<>(List.of(), null);
+        }
+        String query = FeedSearchTokenizer.toTsQuery(tokens);
+
+        List<Hit> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = jdbcTemplate.query(RANKED_SQL + ORDER_BY_RANK + "LIMIT ?",
+                    (rs, rowNum) -> new Hit(rs.getLong(1), rs.getFloat(2)),
+                    query, board.getTable(), limit + 1);
+        } else {
+            Hit after = Hit.parse(cursor);
+            hits = jdbcTemplate.query(RANKED_SQL + AFTER_CURSOR + ORDER_BY_RANK + "LIMIT ?",
+                    (rs, rowNum) -> new Hit(rs.getLong(1), rs.getFloat(2)),
+                    query, board.getTable(), after.rank(), after.rank(), after.feedId(), limit + 1);
+        }
+
+        boolean hasNext = hits.size() > limit;
+        List<Hit> page = hasNext ? hits.subList(0, limit) : hits;
+        return new FeedSearchSliceDTO<>(
+                page.stream().map(Hit::feedId).toList(),
+                hasNext ? page.get(page.size() - 1).toCursor() : null);
+    }
+
+    // 페이지 번호 방식 검색 (기존 /mainsearch 응답 형태 유지용)
+    public Page<Long> searchPage(FeedBoard board, String keyword, Pageable pageable) {
+        Set<String> tokens = FeedSearchTokenizer.queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        String query = FeedSearchTokenizer.toTsQuery(tokens);
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM feed_search_document d WHERE d.board = ? AND d.document @@ CAST(? AS tsquery)",
+                Long.class, board.getTable(), query);
+        if (total == null || total == 0) {
+            return Page.empty(pageable);
+        }
+        List<Long> ids = jdbcTemplate.query(RANKED_SQL + ORDER_BY_RANK + "LIMIT ? OFFSET ?",
+                (rs, rowNum) -> rs.getLong(1),
+                query, board.getTable(), pageable.getPageSize(), pageable.getOffset());
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    private int backfill(FeedBoard board) {
+        String sql = "SELECT f.id, f.title, f.content, m.nickname FROM " + board.getTable() + " f " +
+                "JOIN member m ON m.id = f.author_id " +
+                "WHERE NOT EXISTS (SELECT 1 FROM feed_search_document d WHERE d.board = ? AND d.feed_id = f.id) " +
+                "ORDER BY f.id LIMIT " + BACKFILL_CHUNK_SIZE;
+        int total = 0;
+        List<Object[]> rows;
+        do {
+            rows = jdbcTemplate.query(sql,
+                    (rs, rowNum) -> toUpsertArgs(board, rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                    board.getTable());
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+                total += rows.size();
+            }
+        } while (rows.size() == BACKFILL_CHUNK_SIZE);
+        return total;
+    }
+
+    private static Object[] toUpsertArgs(FeedBoard board, long feedId, String title, String content, String nickname) {
+        return new Object[]{board.getTable(), feedId,
+                FeedSearchTokenizer.documentTokens(title),
+                FeedSearchTokenizer.documentTokens(nickname),
+                FeedSearchTokenizer.documentTokens(content)};
+    }
+
+    // 검색 결과 한 건, 커서는 "관련도(float 비트 16진수).id" 형태로 정확히 복원됨
+    private record Hit(long feedId, float rank) {
+
+        String toCursor() {
+            return Integer.toHexString(Float.floatToIntBits(rank)) + "." + feedId;
+        }
+
+        static Hit parse(String cursor) {
+            int dot = cursor.indexOf('.');
+            try {
+                return new Hit(Long.parseLong(cursor.substring(dot + 1)),
+                        Float.intBitsToFloat(Integer.parseUnsignedInt(cursor.substring(0, dot), 16)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 검색 커서입니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package NPJ.Crewer.feeds.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 토큰 분리.
+ * 한국어는 띄어쓰기/조사 때문에 단어 단위 색인으로는 "러닝크루"에서 "크루"를 찾을 수 없으므로,
+ * 글자/숫자로 이루어진 단어를 2글자씩 겹쳐 자른 bigram으로 색인한다 ("러닝크루" -> 러닝, 닝크, 크루).
+ * 검색어도 같은 방식으로 잘라 모든 bigram을 포함한 문서를 찾으므로 기존 LIKE %keyword% 와 비슷한 부분 일치가 된다.
+ */
+final class FeedSearchTokenizer {
+
+    static final int MAX_QUERY_TOKENS = 16;
+    // 단어 전체 토큰의 최대 길이 (PostgreSQL lexeme은 2KB 이하여야 함, 더 긴 단어는 bigram만 색인해도 부분 일치로 찾아짐)
+    static final int MAX_WORD_LENGTH = 32;
+
+    private FeedSearchTokenizer() {
+    }
+
+    // 문서 색인용: 단어 전체(MAX_WORD_LENGTH 글자 이하만) + bigram
+    static String[] documentTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.codePointCount(0, word.length()) <= MAX_WORD_LENGTH) {
+                tokens.add(word);
+            }
+            addBigrams(word, tokens);
+        }
+        return tokens.toArray(String[]::new);
+    }
+
+    // 검색어용: bigram (한 글자 단어는 그 글자로 시작하는 토큰 전방 일치)
+    static Set<String> queryTokens(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            if (word.codePointCount(0, word.length()) == 1) {
+                tokens.add(word + ":*");
+            } else {
+                addBigrams(word, tokens);
+            }
+            if (tokens.size() >= MAX_QUERY_TOKENS) {
+                break;
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어 토큰을 AND로 묶은 tsquery 문자열 (토큰은 글자/숫자뿐이라 그대로 따옴표로 감쌀 수 있음)
+    static String toTsQuery(Set<String> queryTokens) {
+        StringBuilder query = new StringBuilder();
+        for (String token : queryTokens) {
+            if (!query.isEmpty()) {
+                query.append(" & ");
+            }
+            if (token.endsWith(":*")) {
+                query.append('\'').append(token, 0, token.length() - 2).append("':*");
+            } else {
+                query.append('\'').append(token).append('\'');
+            }
+        }
+        return query.toString();
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        normalized.codePoints().forEach(codePoint -> {
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.appendCodePoint(codePoint);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        });
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    private static void addBigrams(String word, Set<String> tokens) {
+        int[] codePoints = word.codePoints().toArray();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package NPJ.Crewer.feeds.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 검색 결과: nextCursor가 null이면 마지막 페이지
+@Getter
+@AllArgsConstructor
+public class FeedSearchSliceDTO<T> {
+    private List<T> content;
+    private String nextCursor;
+}
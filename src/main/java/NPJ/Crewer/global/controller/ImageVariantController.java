@@ -0,0 +1,52 @@
+package NPJ.Crewer.global.controller;
+
+import NPJ.Crewer.config.ImageTrafficMetricsFilter;
+import NPJ.Crewer.config.WebConfig;
+import NPJ.Crewer.global.service.FileStorageService;
+import NPJ.Crewer.global.service.ImageVariantService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Path;
+
+@RestController
+@RequiredArgsConstructor
+public class ImageVariantController {
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+
+    //크기를 지정한 이미지 요청: size 이상인 가장 작은 변형(64/128/512) 반환 (size가 없으면 WebConfig가 원본 제공)
+    @GetMapping(value = "/crewerimages/{category}/{shard}/{fileName}", params = "size")
+    public ResponseEntity<Resource> getImageVariant(@PathVariable String category,
+                                                    @PathVariable String shard,
+                                                    @PathVariable String fileName,
+                                                    @RequestParam int size,
+                                                    HttpServletRequest request) {
+        Path original = fileStorageService.findStoredImage(category, shard, fileName);
+        if (original == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Path image = imageVariantService.resolve(original, size);
+        // 전송량 측정(304/206 절감량)이 원본이 아닌 실제 보낸 파일 크기를 기준으로 하도록 전달
+        request.setAttribute(ImageTrafficMetricsFilter.SERVED_FILE_ATTRIBUTE, image);
+        Resource resource = new FileSystemResource(image);
+        MediaType contentType = MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        // 변형이 아직 없거나 만들지 못해 원본을 대신 준 경우에는 다음 요청 때 변형을 받도록 재검증하게 함
+        // (ETag가 있으므로 If-None-Match 304와 Range 요청은 ResponseEntity 처리 과정에서 지원됨)
+        return ResponseEntity.ok()
+                .cacheControl(image.equals(original) ? WebConfig.LEGACY_IMAGE_CACHE : WebConfig.IMMUTABLE_IMAGE_CACHE)
+                .eTag(WebConfig.contentHashEtag(resource))
+                .contentType(contentType)
+                .body(resource);
+    }
+}
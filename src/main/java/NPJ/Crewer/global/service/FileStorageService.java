@@ -3,37 +3,151 @@ package NPJ.Crewer.global.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
 
+/**
+ * 업로드 파일 저장소.
+ * 파일은 내용의 SHA-256 값으로 {category}/{해시 앞 2자리}/{해시}.{확장자} 에 저장하므로
+ * 같은 이미지를 여러 번 올려도 한 번만 저장되고, 파일 이름이 같은 다른 이미지끼리 덮어쓰지 않는다.
+ * 업로드는 고정 크기 버퍼로 임시 파일에 흘려 쓰면서 해시를 계산하므로 파일 전체를 힙에 올리지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 public class FileStorageService {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_DIR = ".tmp";
+    private static final Set<String> STORED_CATEGORIES = Set.of("profile", "chat");
+    private static final Pattern SHARD = Pattern.compile("[0-9a-f]{2}");
+    private static final Pattern STORED_FILE_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z]+");
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp", "heic", "bmp");
+
+    private final ImageVariantService imageVariantService;
+
     @Value("${upload.dir}")
     private String uploadDir;
 
     /**
      * 프로필 이미지를 저장하고 URL을 반환한다.
      */
-    public String storeProfileImage(Long memberId, MultipartFile image) throws IOException {
-        File directory = new File(uploadDir + "/profile");
-        
-        if (!directory.exists()) {
-            directory.mkdirs();
+    public String storeProfileImage(MultipartFile image) throws IOException {
+        return store("profile", image);
+    }
+
+    /**
+     * 채팅 이미지를 저장하고 URL을 반환한다.
+     */
+    public String storeChatImage(MultipartFile image) throws IOException {
+        return store("chat", image);
+    }
+
+    /**
+     * 저장된 이미지 URL 경로({category}/{shard}/{fileName})에 해당하는 파일, 없거나 형식이 맞지 않으면 null.
+     */
+    public Path findStoredImage(String category, String shard, String fileName) {
+        if (!STORED_CATEGORIES.contains(category)
+                || !SHARD.matcher(shard).matches()
+                || !STORED_FILE_NAME.matcher(fileName).matches()
+                || !fileName.startsWith(shard)) {
+            return null;
+        }
+        Path file = Paths.get(uploadDir, category, shard, fileName);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    private String store(String category, MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 비어 있습니다.");
+        }
+
+        Path categoryDir = Paths.get(uploadDir, category);
+        Path tempDir = Files.createDirectories(categoryDir.resolve(TEMP_DIR));
+        Path tempFile = tempDir.resolve(UUID.randomUUID() + ".part");
+
+        try {
+            String hash = writeWithDigest(file, tempFile);
+            String fileName = hash + extensionOf(file.getOriginalFilename());
+            Path targetDir = Files.createDirectories(categoryDir.resolve(hash.substring(0, 2)));
+            Path target = targetDir.resolve(fileName);
+
+            // 같은 내용이 이미 있으면 임시 파일만 버림 (동시에 같은 파일이 올라와도 내용이 같으므로 교체해도 무방)
+            if (!Files.exists(target)) {
+                moveIntoPlace(tempFile, target);
+            }
+            if (!fileName.endsWith(".bin")) {
+                imageVariantService.generateAsync(target);
+            }
+            return "/crewerimages/" + category + "/" + hash.substring(0, 2) + "/" + fileName;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // 업로드 스트림을 버퍼 단위로 파일에 쓰면서 SHA-256 계산, 16진수 해시 반환
+    private String writeWithDigest(MultipartFile file, Path tempFile) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        try (InputStream in = file.getInputStream();
+             ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel target = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+            target.force(false);
         }
-        
-        String fileName = memberId + "_" + image.getOriginalFilename();
-        Path filePath = Paths.get(uploadDir + "/profile", fileName);
-        String fileUrl = "/crewerimages/profile/" + fileName;
+        return HexFormat.of().formatHex(digest.digest());
+    }
 
-        Files.write(filePath, image.getBytes());
+    private void moveIntoPlace(Path tempFile, Path target) throws IOException {
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 
-        return fileUrl;
+    // 원본 파일 이름은 확장자만 사용 (경로 문자 등은 버림)
+    private String extensionOf(String originalFilename) {
+        String extension = StringUtils.getFilenameExtension(StringUtils.getFilename(originalFilename));
+        if (extension == null) {
+            return ".bin";
+        }
+        extension = extension.toLowerCase(Locale.ROOT);
+        return IMAGE_EXTENSIONS.contains(extension) ? "." + extension : ".bin";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 }
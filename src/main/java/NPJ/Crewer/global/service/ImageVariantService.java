@@ -0,0 +1,203 @@
+package NPJ.Crewer.global.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 크기별 변형(썸네일) 생성.
+ * 원본 {hash}.{ext} 옆에 긴 변 기준 64/128/512px JPEG {hash}_{size}.jpg 를 만들어 두고,
+ * 요청한 크기 이상인 가장 작은 변형을 돌려준다. 업로드 직후 미리 만들고, 없으면 첫 요청 때 만든다.
+ * 변환은 크기와 대기열이 제한된 전용 스레드 풀에서만 하므로 업로드가 몰려도 요청 스레드를 붙잡지 않는다.
+ * 변형이 아직 없으면 기다리지 않고 원본을 바로 제공하고(재검증 캐시), 변형은 풀에서 만들어 다음 요청부터 제공한다.
+ * 디코딩 전에 헤더의 가로/세로로 픽셀 수를 확인해 max-pixels를 넘는 이미지(압축 폭탄 등)는 변환하지 않고,
+ * 변형보다 훨씬 큰 원본은 건너뛰며(subsampling) 읽어 디코딩 메모리를 변형 크기 수준으로 줄인다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    public static final int[] SIZES = {64, 128, 512};
+    private static final String VARIANT_FORMAT = "jpg";
+
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    // 같은 변형을 여러 요청이 동시에 만들지 않도록 진행 중인 작업 공유
+    private final Map<Path, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageVariantService(@Value("${image.variant.threads:2}") int threads,
+                               @Value("${image.variant.queue-capacity:100}") int queueCapacity,
+                               @Value("${image.variant.max-pixels:50000000}") long maxPixels) {
+        this.maxPixels = maxPixels;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 업로드 직후 모든 크기의 변형을 미리 생성 (대기열이 가득 차면 첫 요청 때 생성)
+    public void generateAsync(Path original) {
+        for (int size : SIZES) {
+            submit(original, size);
+        }
+    }
+
+    // 요청 크기에 맞는 변형 경로, 아직 없으면 만들기를 맡겨 두고 바로 원본 경로 (요청 스레드는 변환을 기다리지 않음)
+    public Path resolve(Path original, int requestedSize) {
+        CompletableFuture<Path> future = submit(original, fittingSize(requestedSize));
+        Path variant = future != null ? future.getNow(null) : null;
+        return variant != null ? variant : original;
+    }
+
+    // 요청 크기 이상인 가장 작은 변형 크기 (요청이 더 크면 가장 큰 변형)
+    public static int fittingSize(int requestedSize) {
+        for (int size : SIZES) {
+            if (requestedSize <= size) {
+                return size;
+            }
+        }
+        return SIZES[SIZES.length - 1];
+    }
+
+    private CompletableFuture<Path> submit(Path original, int size) {
+        Path variant = variantPath(original, size);
+        if (Files.exists(variant)) {
+            return CompletableFuture.completedFuture(variant);
+        }
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(variant, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(createVariant(original, variant, size));
+                } catch (Exception e) {
+                    log.warn("Failed to create {}px variant of {}: {}", size, original.getFileName(), e.getMessage());
+                    created.complete(null);
+                } finally {
+                    inFlight.remove(variant, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(variant, created);
+            return null;
+        }
+        return created;
+    }
+
+    private Path createVariant(Path original, Path variant, int size) throws IOException {
+        if (Files.exists(variant)) {
+            return variant;
+        }
+        BufferedImage source = read(original, size);
+        if (source == null) {
+            return null; // ImageIO가 읽지 못하는 형식(heic 등)은 원본 제공
+        }
+
+        // 긴 변을 size에 맞추고 원본보다 키우지는 않음, 투명 영역은 흰색으로 채움
+        double scale = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        // 임시 파일에 쓴 뒤 옮겨서 반쯤 쓰인 변형이 제공되지 않도록 함
+        Path temp = variant.resolveSibling(UUID.randomUUID() + ".part");
+        try {
+            ImageIO.write(resized, VARIANT_FORMAT, temp.toFile());
+            try {
+                Files.move(temp, variant, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, variant, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return variant;
+    }
+
+    // 헤더로 크기를 확인한 뒤, 긴 변이 변형 크기의 2배 이상이면 그 근처까지 건너뛰며 디코딩 (남은 축소는 bilinear)
+    private BufferedImage read(Path original, int size) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("image is too large to decode (" + width + "x" + height + ")");
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (size * 2));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static Path variantPath(Path original, int size) {
+        String fileName = original.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return original.resolveSibling(baseName + "_" + size + "." + VARIANT_FORMAT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
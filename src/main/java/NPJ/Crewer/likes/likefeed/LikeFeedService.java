@@ -2,6 +2,8 @@ package NPJ.Crewer.likes.likefeed;
 
 import NPJ.Crewer.feeds.feed.Feed;
 import NPJ.Crewer.feeds.feed.FeedRepository;
+import NPJ.Crewer.feeds.FeedBoard;
+import NPJ.Crewer.feeds.HotFeedRanking;
 import NPJ.Crewer.member.Member;
 import NPJ.Crewer.member.MemberRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -18,6 +20,7 @@ public class LikeFeedService {
     private final FeedRepository feedRepository;
     private final LikeFeedRepository likeFeedRepository;
     private final MemberRepository memberRepository;
+    private final HotFeedRanking hotFeedRanking;
 
     //좋아요 누르기
     @Transactional
@@ -35,20 +38,24 @@ public class LikeFeedService {
 
         if (existingLike.isPresent()) {
             likeFeedRepository.delete(existingLike.get()); // 이미 눌렀으면 삭제
+            feedRepository.addLikeCount(feedId, -1);
+            hotFeedRanking.unliked(FeedBoard.FEED, feedId, existingLike.get().getCreatedAt());
         } else {
             LikeFeed likeFeed = LikeFeed.builder()
                     .liker(liker)
                     .feed(feed)
                     .build();
             likeFeedRepository.save(likeFeed); // 없으면 저장
+            feedRepository.addLikeCount(feedId, 1);
+            hotFeedRanking.liked(FeedBoard.FEED, feedId);
         }
-        return likeFeedRepository.countByFeedId(feedId);
+        return feedRepository.findLikeCountById(feedId).orElse(0L);
     }
 
     //좋아요 수 불러오기
     @Transactional(readOnly = true)
     public long countLikes(Long feedId) {
-        return likeFeedRepository.countByFeedId(feedId);
+        return feedRepository.findLikeCountById(feedId).orElse(0L);
     }
 
     //피드를 좋아요 했는지 확인
@@ -3,6 +3,8 @@ package NPJ.Crewer.likes.likegroupfeed;
 import NPJ.Crewer.feeds.groupfeed.GroupFeed;
 import NPJ.Crewer.feeds.groupfeed.GroupFeedRepository;
 
+import NPJ.Crewer.feeds.FeedBoard;
+import NPJ.Crewer.feeds.HotFeedRanking;
 import NPJ.Crewer.member.Member;
 import NPJ.Crewer.member.MemberRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -18,6 +20,7 @@ public class LikeGroupFeedService {
     private final GroupFeedRepository groupFeedRepository;
     private final LikeGroupFeedRepository likeGroupFeedRepository;
     private final MemberRepository memberRepository;
+    private final HotFeedRanking hotFeedRanking;
 
     //좋아요 누르기
     @Transactional
@@ -35,20 +38,24 @@ public class LikeGroupFeedService {
 
         if (existingLike.isPresent()) {
             likeGroupFeedRepository.delete(existingLike.get()); // 이미 눌렀으면 삭제
+            groupFeedRepository.addLikeCount(groupFeedId, -1);
+            hotFeedRanking.unliked(FeedBoard.GROUP_FEED, groupFeedId, existingLike.get().getCreatedAt());
         } else {
             LikeGroupFeed likeGroupFeed = LikeGroupFeed.builder()
                     .liker(liker)
                     .groupFeed(groupFeed)
                     .build();
             likeGroupFeedRepository.save(likeGroupFeed); // 없으면 저장
+            groupFeedRepository.addLikeCount(groupFeedId, 1);
+            hotFeedRanking.liked(FeedBoard.GROUP_FEED, groupFeedId);
         }
-        return likeGroupFeedRepository.countByGroupFeedId(groupFeedId);
+        return groupFeedRepository.findLikeCountById(groupFeedId).orElse(0L);
     }
 
     //좋아요 수 불러오기
     @Transactional(readOnly = true)
     public long countLikes(Long groupFeedId) {
-        return likeGroupFeedRepository.countByGroupFeedId(groupFeedId);
+        return groupFeedRepository.findLikeCountById(groupFeedId).orElse(0L);
     }
 
     //피드를 좋아요 했는지 확인
@@ -1,7 +1,11 @@
 package NPJ.Crewer.member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -16,4 +20,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     //nickname 중복 확인
     boolean existsByNickname(String nickname);
 
+    //id 목록으로 회원 + 프로필 한 번에 조회
+    @Query("SELECT m FROM Member m LEFT JOIN FETCH m.profile WHERE m.id IN :ids")
+    List<Member> findAllWithProfileByIdIn(@Param("ids") Collection<Long> ids);
+
 }
@@ -1,8 +1,16 @@
 package NPJ.Crewer.profile;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
+
+    // 프로필 사진 경로만 조회 (Profile id = Member id)
+    @Query("SELECT p.avatarUrl FROM Profile p WHERE p.id = :memberId")
+    Optional<String> findAvatarUrlByMemberId(@Param("memberId") Long memberId);
 }
@@ -1,8 +1,10 @@
 package NPJ.Crewer.profile;
 
+import NPJ.Crewer.chat.ChatSessionRegistry;
 import NPJ.Crewer.feeds.feed.Feed;
 import NPJ.Crewer.feeds.feed.FeedRepository;
 import NPJ.Crewer.feeds.feed.dto.FeedResponseDTO;
+import NPJ.Crewer.feeds.search.FeedSearchIndex;
 import NPJ.Crewer.follow.FollowRepository;
 import NPJ.Crewer.global.service.FileStorageService;
 import NPJ.Crewer.global.util.MemberUtil;
@@ -27,6 +29,8 @@ public class ProfileService {
     private final LikeFeedRepository likeFeedRepository;
     private final FollowRepository followRepository;
     private final FileStorageService fileStorageService;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final FeedSearchIndex feedSearchIndex;
 
     @Transactional(readOnly = true)
     public ProfileDTO getMyProfile(Long memberId) {
@@ -59,8 +63,8 @@ public class ProfileService {
                             feed.getAuthor().getUsername(),
                             feed.getAuthor().getProfile().getAvatarUrl(),
                             feed.getCreatedAt(),
-                            feed.getLikes().size(),
-                            feed.getComments().size()
+                            (int) feed.getLikeCount(),
+                            (int) feed.getCommentCount()
                     );
                 })
                 .collect(Collectors.toList());
@@ -89,6 +93,8 @@ public class ProfileService {
         }
 
         member.updateNickname(nickname);
+        chatSessionRegistry.updateProfile(memberId, nickname, null);
+        feedSearchIndex.reindexAuthor(memberId, nickname);
         return member.getNickname();
     }
 
@@ -116,7 +122,7 @@ public class ProfileService {
     public String uploadProfileImage(Long memberId, MultipartFile image) throws IOException {
         Member member = MemberUtil.getMemberOrThrow(memberRepository, memberId);
 
-        String fileUrl = fileStorageService.storeProfileImage(memberId, image);
+        String fileUrl = fileStorageService.storeProfileImage(image);
 
         Profile userProfile = member.getProfile();
         if (userProfile == null) {
@@ -124,6 +130,7 @@ public class ProfileService {
         }
         
         userProfile.updateAvatarUrl(fileUrl);
+        chatSessionRegistry.updateProfile(memberId, null, fileUrl);
 
         return fileUrl;
     }
@@ -40,8 +40,7 @@ public class District {
     @Column(nullable = false)
     private BigDecimal longitude; // 경도
 
-    @Column(columnDefinition = "TEXT")
-    private String geojsonData; // 행정동 폴리곤 데이터 (GeoJSON Feature)
+    // 경계 폴리곤은 목록 조회마다 읽히지 않도록 DistrictGeometry(district_geometries)에 따로 저장
 
     @CreatedDate
     @Column(updatable = false, nullable = false)
@@ -49,7 +48,7 @@ public class District {
 
     // 생성자
     public District(String regionId, String regionName, String fullName, String level, 
-                   City city, BigDecimal latitude, BigDecimal longitude, String geojsonData) {
+                   City city, BigDecimal latitude, BigDecimal longitude) {
         this.regionId = regionId;
         this.regionName = regionName;
         this.fullName = fullName;
@@ -57,6 +56,5 @@ public class District {
         this.city = city;
         this.latitude = latitude;
         this.longitude = longitude;
-        this.geojsonData = geojsonData;
     }
 }
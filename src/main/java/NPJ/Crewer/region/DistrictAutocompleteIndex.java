@@ -0,0 +1,295 @@
+package NPJ.Crewer.region;
+
+import NPJ.Crewer.region.dto.DistrictResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 행정동 자동완성 색인 (메모리).
+ * 행정동 데이터는 RegionDataInitializer 이후 바뀌지 않으므로 기동 시 한 번 읽어
+ * 행정동명/전체 주소와 그 초성 문자열의 bigram 역색인을 만들어 두고, 키 입력마다 DB 대신 이 색인으로 찾는다.
+ * 검색어에 초성(ㄱ~ㅎ)이 섞여 있으면 해당 자리는 글자의 초성과 비교한다. (예: "ㅇㅅ" → 역삼동)
+ * 결과는 행정동명 접두 일치 → 행정동명 포함 → 전체 주소 포함 순이고, 같은 순위는 일치 위치와 이름순으로 정렬한다.
+ * 응답에는 경계 GeoJSON을 싣지 않는다. (상세 조회로 받음)
+ */
+@Slf4j
+@Component
+public class DistrictAutocompleteIndex {
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private static final int NAME_PREFIX = 0;
+    private static final int NAME_CONTAINS = 1;
+    private static final int FULL_NAME_CONTAINS = 2;
+
+    private final DistrictRepository districtRepository;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public DistrictAutocompleteIndex(DistrictRepository districtRepository) {
+        this.districtRepository = districtRepository;
+    }
+
+    // 지역 데이터 초기화(ApplicationRunner)가 끝난 뒤 색인 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            List<Object[]> rows = districtRepository.findAllForAutocomplete();
+            snapshot = Snapshot.of(rows.stream().map(DistrictAutocompleteIndex::toEntry).toList());
+            log.info("Built district autocomplete index with {} districts", rows.size());
+        } catch (Exception e) {
+            log.error("Failed to build district autocomplete index: {}", e.getMessage(), e);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != Snapshot.EMPTY;
+    }
+
+    // 시/군/구 안의 행정동 검색, 검색어가 없으면 이름순 전체
+    public List<DistrictResponseDTO> searchInCity(String cityId, String query, int limit) {
+        Snapshot current = snapshot;
+        return search(current, current.byCity.getOrDefault(cityId, new int[0]), query, limit);
+    }
+
+    // 시/도 안의 행정동 검색, 검색어가 없으면 빈 목록
+    public List<DistrictResponseDTO> searchInProvince(String provinceId, String query, int limit) {
+        if (normalize(query).isEmpty()) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        return search(current, current.byProvince.getOrDefault(provinceId, new int[0]), query, limit);
+    }
+
+    private static List<DistrictResponseDTO> search(Snapshot current, int[] scope, String query, int limit) {
+        int max = limit > 0 ? limit : Integer.MAX_VALUE;
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            // scope는 이름순으로 정렬되어 있음
+            return Arrays.stream(scope).limit(max).mapToObj(i -> current.entries.get(i).dto).toList();
+        }
+
+        int[] candidates = current.candidates(scope, normalized);
+        List<Match> matches = new ArrayList<>();
+        for (int i : candidates) {
+            Match match = current.entries.get(i).match(normalized);
+            if (match != null) {
+                matches.add(match);
+            }
+        }
+        return matches.stream()
+                .sorted()
+                .limit(max)
+                .map(match -> match.entry.dto)
+                .toList();
+    }
+
+    private static Entry toEntry(Object[] row) {
+        DistrictResponseDTO dto = new DistrictResponseDTO((String) row[0], (String) row[1], (String) row[2], (String) row[3],
+                (String) row[6], (String) row[7], (String) row[8], (BigDecimal) row[4], (BigDecimal) row[5]);
+        return new Entry(dto, (String) row[6], (String) row[9]);
+    }
+
+    // NFC 정규화 후 공백 제거, 소문자
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder builder = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    // 글자별 초성 문자열 (한글 음절이 아니면 그 글자 그대로)
+    static String chosungOf(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                chars[i] = CHOSUNG.charAt((c - HANGUL_BASE) / SYLLABLES_PER_CHOSUNG);
+            }
+        }
+        return new String(chars);
+    }
+
+    static boolean isChosung(char c) {
+        return CHOSUNG.indexOf(c) >= 0;
+    }
+
+    // 이 자리의 검색어 글자와 맞는지 (초성 글자는 음절의 초성과 비교)
+    private static int indexOf(String text, String textChosung, String query) {
+        outer:
+        for (int start = 0; start <= text.length() - query.length(); start++) {
+            for (int j = 0; j < query.length(); j++) {
+                char q = query.charAt(j);
+                if (text.charAt(start + j) != q && !(isChosung(q) && textChosung.charAt(start + j) == q)) {
+                    continue outer;
+                }
+            }
+            return start;
+        }
+        return -1;
+    }
+
+    // 검색어의 bigram 중 색인으로 찾을 수 있는 것 (음절끼리는 원문, 초성끼리는 초성 문자열 bigram)
+    private static Set<String> queryBigrams(String query) {
+        Set<String> bigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            boolean first = isChosung(query.charAt(i));
+            boolean second = isChosung(query.charAt(i + 1));
+            if (first == second) {
+                bigrams.add(query.substring(i, i + 2));
+            }
+        }
+        return bigrams;
+    }
+
+    private static final class Entry {
+
+        private final DistrictResponseDTO dto;
+        private final String cityId;
+        private final String provinceId;
+        private final String name;
+        private final String nameChosung;
+        private final String fullName;
+        private final String fullNameChosung;
+
+        private Entry(DistrictResponseDTO dto, String cityId, String provinceId) {
+            this.dto = dto;
+            this.cityId = cityId;
+            this.provinceId = provinceId;
+            this.name = normalize(dto.getRegionName());
+            this.nameChosung = chosungOf(name);
+            this.fullName = normalize(dto.getFullName());
+            this.fullNameChosung = chosungOf(fullName);
+        }
+
+        private Match match(String query) {
+            int position = indexOf(name, nameChosung, query);
+            if (position >= 0) {
+                return new Match(this, position == 0 ? NAME_PREFIX : NAME_CONTAINS, position);
+            }
+            position = indexOf(fullName, fullNameChosung, query);
+            return position >= 0 ? new Match(this, FULL_NAME_CONTAINS, position) : null;
+        }
+
+        private void addBigrams(Set<String> target) {
+            for (String key : List.of(name, nameChosung, fullName, fullNameChosung)) {
+                for (int i = 0; i + 1 < key.length(); i++) {
+                    target.add(key.substring(i, i + 2));
+                }
+            }
+        }
+    }
+
+    private record Match(Entry entry, int tier, int position) implements Comparable<Match> {
+
+        private static final Comparator<Match> ORDER = Comparator.comparingInt(Match::tier)
+                .thenComparingInt(Match::position)
+                .thenComparingInt(match -> match.entry.name.length())
+                .thenComparing(match -> match.entry.dto.getRegionName());
+
+        @Override
+        public int compareTo(Match other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    // 한 번 만든 뒤 바뀌지 않는 색인 (다시 만들면 통째로 교체)
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(List.of(), Map.of(), Map.of(), Map.of());
+
+        private final List<Entry> entries;
+        private final Map<String, int[]> postings;
+        private final Map<String, int[]> byCity;
+        private final Map<String, int[]> byProvince;
+
+        private Snapshot(List<Entry> entries, Map<String, int[]> postings,
+                         Map<String, int[]> byCity, Map<String, int[]> byProvince) {
+            this.entries = entries;
+            this.postings = postings;
+            this.byCity = byCity;
+            this.byProvince = byProvince;
+        }
+
+        // 이름순으로 번호를 매기므로 모든 id 목록이 이름순으로 정렬됨
+        private static Snapshot of(List<Entry> unsorted) {
+            List<Entry> entries = unsorted.stream()
+                    .sorted(Comparator.comparing((Entry entry) -> entry.dto.getRegionName())
+                            .thenComparing(entry -> entry.dto.getRegionId()))
+                    .toList();
+
+            Map<String, List<Integer>> postings = new HashMap<>();
+            Map<String, List<Integer>> byCity = new HashMap<>();
+            Map<String, List<Integer>> byProvince = new HashMap<>();
+            Set<String> bigrams = new LinkedHashSet<>();
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                bigrams.clear();
+                entry.addBigrams(bigrams);
+                for (String bigram : bigrams) {
+                    postings.computeIfAbsent(bigram, key -> new ArrayList<>()).add(i);
+                }
+                byCity.computeIfAbsent(entry.cityId, key -> new ArrayList<>()).add(i);
+                byProvince.computeIfAbsent(entry.provinceId, key -> new ArrayList<>()).add(i);
+            }
+            return new Snapshot(entries, toArrays(postings), toArrays(byCity), toArrays(byProvince));
+        }
+
+        // 범위(scope)와 검색어 bigram 목록을 모두 포함하는 후보 (bigram이 없으면 범위 전체)
+        private int[] candidates(int[] scope, String query) {
+            List<int[]> lists = new ArrayList<>();
+            lists.add(scope);
+            for (String bigram : queryBigrams(query)) {
+                int[] posting = postings.get(bigram);
+                if (posting == null) {
+                    return new int[0];
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.length));
+
+            int[] shortest = lists.get(0);
+            int[] result = new int[shortest.length];
+            int size = 0;
+            outer:
+            for (int id : shortest) {
+                for (int k = 1; k < lists.size(); k++) {
+                    if (Arrays.binarySearch(lists.get(k), id) < 0) {
+                        continue outer;
+                    }
+                }
+                result[size++] = id;
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private static Map<String, int[]> toArrays(Map<String, List<Integer>> lists) {
+            Map<String, int[]> arrays = new HashMap<>(lists.size() * 2);
+            lists.forEach((key, ids) -> arrays.put(key, ids.stream().mapToInt(Integer::intValue).toArray()));
+            return arrays;
+        }
+    }
+}
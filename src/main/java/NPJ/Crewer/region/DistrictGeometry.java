@@ -0,0 +1,29 @@
+package NPJ.Crewer.region;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 행정동 경계 폴리곤 (GeoJSON geometry).
+ * 목록/검색 쿼리가 폴리곤까지 읽지 않도록 District와 별도 테이블에 두고, 경계가 필요할 때만 행정동 코드로 조회한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "district_geometries")
+public class DistrictGeometry {
+
+    @Id
+    @Column(length = 10)
+    private String regionId; // 행정동 코드 (District와 같은 값)
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String geojsonData; // 행정동 폴리곤 데이터 (GeoJSON geometry)
+
+    public DistrictGeometry(String regionId, String geojsonData) {
+        this.regionId = regionId;
+        this.geojsonData = geojsonData;
+    }
+}
@@ -0,0 +1,8 @@
+package NPJ.Crewer.region;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DistrictGeometryRepository extends JpaRepository<DistrictGeometry, String> {
+}
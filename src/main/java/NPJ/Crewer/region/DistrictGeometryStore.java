@@ -0,0 +1,37 @@
+package NPJ.Crewer.region;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 행정동 경계 GeoJSON 응답 캐시.
+ * 경계 데이터는 RegionDataInitializer 이후 바뀌지 않으므로 행정동마다 처음 요청될 때 한 번만 읽어
+ * gzip 본문과 ETag를 만들어 두고, 이후 요청(304 재검증 포함)은 DB 조회나 재압축 없이 그대로 내보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DistrictGeometryStore {
+
+    private final DistrictGeometryRepository districtGeometryRepository;
+    private final Map<String, GeoJsonPayload> payloads = new ConcurrentHashMap<>();
+
+    public GeoJsonPayload get(String districtId) {
+        GeoJsonPayload payload = payloads.get(districtId);
+        if (payload != null) {
+            return payload;
+        }
+        // 없는 행정동은 예외가 나므로 캐시에 남지 않음
+        return payloads.computeIfAbsent(districtId, this::load);
+    }
+
+    private GeoJsonPayload load(String districtId) {
+        String geojsonData = districtGeometryRepository.findById(districtId)
+                .map(DistrictGeometry::getGeojsonData)
+                .orElseThrow(() -> new RegionNotFoundException("존재하지 않는 행정동입니다."));
+        return GeoJsonPayload.of(geojsonData.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package NPJ.Crewer.region;
 
+import NPJ.Crewer.region.dto.DistrictResponseDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,24 +11,34 @@ import java.util.Optional;
 
 @Repository
 public interface DistrictRepository extends JpaRepository<District, String> {
-    
-    @Query("SELECT d FROM District d JOIN FETCH d.city WHERE d.city.regionId = :cityId AND d.regionName LIKE %:query%")
-    List<District> findByCityIdAndRegionNameContaining(@Param("cityId") String cityId, @Param("query") String query);
+
+    // 목록/검색 응답에 필요한 컬럼만 DTO로 조회 (경계 GeoJSON은 district_geometries에 따로 있음)
+    String SUMMARY_SELECT = "SELECT new NPJ.Crewer.region.dto.DistrictResponseDTO(" +
+            "d.regionId, d.regionName, d.fullName, d.level, c.regionId, c.regionName, c.fullName, d.latitude, d.longitude) " +
+            "FROM District d JOIN d.city c ";
+
+    // 특정 시/군/구 내에서 행정동명으로 검색
+    @Query(SUMMARY_SELECT + "WHERE c.regionId = :cityId AND d.regionName LIKE %:query% ORDER BY d.regionName ASC")
+    List<DistrictResponseDTO> searchSummariesInCity(@Param("cityId") String cityId, @Param("query") String query);
     
     // 특정 시/도 내에서 행정동명으로 검색 (자동완성용)
-    @Query("SELECT d FROM District d JOIN FETCH d.city JOIN FETCH d.city.province WHERE d.city.province.regionId = :provinceId AND d.regionName LIKE %:query%")
-    List<District> findByProvinceIdAndRegionNameContaining(@Param("provinceId") String provinceId, @Param("query") String query);
+    @Query(SUMMARY_SELECT + "WHERE c.province.regionId = :provinceId AND d.regionName LIKE %:query% ORDER BY d.regionName ASC")
+    List<DistrictResponseDTO> searchSummariesInProvince(@Param("provinceId") String provinceId, @Param("query") String query);
     
     // 특정 시/도 내의 모든 행정동 조회
-    @Query("SELECT d FROM District d JOIN FETCH d.city JOIN FETCH d.city.province WHERE d.city.province.regionId = :provinceId ORDER BY d.regionName ASC")
-    List<District> findByCityProvinceRegionIdOrderByRegionNameAsc(@Param("provinceId") String provinceId);
-    
-    // 특정 시/군/구 내에서 전체 주소로 검색
-    @Query("SELECT d FROM District d WHERE d.city.regionId = :cityId AND d.fullName LIKE %:query%")
-    List<District> findByCityIdAndFullNameContaining(@Param("cityId") String cityId, @Param("query") String query);
+    @Query(SUMMARY_SELECT + "WHERE c.province.regionId = :provinceId ORDER BY d.regionName ASC")
+    List<DistrictResponseDTO> findSummariesByProvinceId(@Param("provinceId") String provinceId);
     
     // 특정 시/군/구의 모든 행정동 조회
-    List<District> findByCityRegionIdOrderByRegionNameAsc(String cityId);
+    @Query(SUMMARY_SELECT + "WHERE c.regionId = :cityId ORDER BY d.regionName ASC")
+    List<DistrictResponseDTO> findSummariesByCityId(@Param("cityId") String cityId);
+    
+    // 자동완성 색인용 전체 행정동 (경계 GeoJSON 제외)
+    // [행정동 코드, 행정동명, 전체 주소, 레벨, 위도, 경도, 시/군/구 코드, 시/군/구명, 시/군/구 전체 주소, 시/도 코드]
+    @Query("SELECT d.regionId, d.regionName, d.fullName, d.level, d.latitude, d.longitude, " +
+           "c.regionId, c.regionName, c.fullName, p.regionId " +
+           "FROM District d JOIN d.city c JOIN c.province p")
+    List<Object[]> findAllForAutocomplete();
     
     // 행정동 ID로 상세 정보 조회
     Optional<District> findByRegionId(String regionId);
@@ -0,0 +1,116 @@
+package NPJ.Crewer.region;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 압축해 둔 GeoJSON 응답 본문.
+ * 원문과 gzip 본문, 내용 해시로 만든 강한 ETag를 함께 들고 있어 응답할 때 다시 읽거나 압축하지 않는다.
+ * 원문과 gzip 본문은 서로 다른 표현이므로 ETag도 따로 쓴다.
+ */
+public final class GeoJsonPayload {
+
+    static final MediaType GEO_JSON = MediaType.parseMediaType("application/geo+json");
+
+    private final MediaType contentType;
+    private final byte[] raw;
+    private final byte[] gzipped; // 압축해도 작아지지 않으면 null
+    private final String etag;
+
+    private GeoJsonPayload(MediaType contentType, byte[] raw, byte[] gzipped, String etag) {
+        this.contentType = contentType;
+        this.raw = raw;
+        this.gzipped = gzipped;
+        this.etag = etag;
+    }
+
+    public static GeoJsonPayload of(byte[] raw) {
+        return of(raw, GEO_JSON);
+    }
+
+    public static GeoJsonPayload of(byte[] raw, MediaType contentType) {
+        byte[] gzipped = gzip(raw);
+        return new GeoJsonPayload(contentType, raw, gzipped.length < raw.length ? gzipped : null, sha256Prefix(raw));
+    }
+
+    // Accept-Encoding에 맞는 본문, If-None-Match가 같으면 null (304는 WebRequest가 처리)
+    public ResponseEntity<byte[]> toResponse(WebRequest webRequest, CacheControl cacheControl) {
+        boolean useGzip = gzipped != null && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String variantEtag = "\"" + etag + (useGzip ? "-gz" : "") + "\"";
+        if (webRequest.checkNotModified(variantEtag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(contentType)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(variantEtag);
+        if (useGzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(useGzip ? gzipped : raw);
+    }
+
+    // "gzip" 또는 "*" 가 q=0 없이 들어 있으면 gzip 허용
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().toLowerCase(Locale.ROOT).split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equals("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].replace(" ", "");
+                if (parameter.matches("q=0(\\.0{0,3})?")) {
+                    rejected = true;
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        // 한 번 압축해 계속 쓰므로 최대 압축 수준 사용
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256Prefix(byte[] raw) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
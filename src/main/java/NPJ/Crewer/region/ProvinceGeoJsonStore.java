@@ -0,0 +1,70 @@
+package NPJ.Crewer.region;
+
+import NPJ.Crewer.region.dto.CommonApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시/도 GeoJSON 응답 캐시.
+ * 클래스패스의 GeoJSON 파일(합계 약 7.6MB)을 시/도마다 한 번만 읽어 기존 응답 형태
+ * ({"success":true,"data":"<GeoJSON 문자열>"})로 직렬화하고 gzip 본문과 ETag를 미리 만들어 둔다.
+ * 기동 시 모든 시/도를 미리 채우고, 그 뒤 요청은 디스크 읽기나 재압축 없이 바이트를 그대로 내보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProvinceGeoJsonStore {
+
+    private final ProvinceRepository provinceRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, GeoJsonPayload> payloads = new ConcurrentHashMap<>();
+
+    // 지역 데이터 초기화 후 모든 시/도 GeoJSON 미리 압축
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        for (Province province : provinceRepository.findAll()) {
+            try {
+                payloads.computeIfAbsent(province.getRegionId(), id -> load(province));
+            } catch (RegionNotFoundException e) {
+                log.warn("Failed to preload GeoJSON for province {}: {}", province.getRegionId(), e.getMessage());
+            }
+        }
+        log.info("Preloaded GeoJSON for {} provinces", payloads.size());
+    }
+
+    public GeoJsonPayload get(String provinceId) {
+        GeoJsonPayload payload = payloads.get(provinceId);
+        if (payload != null) {
+            return payload;
+        }
+        Province province = provinceRepository.findById(provinceId)
+                .orElseThrow(() -> new RegionNotFoundException("존재하지 않는 시/도입니다."));
+        return payloads.computeIfAbsent(provinceId, id -> load(province));
+    }
+
+    private GeoJsonPayload load(Province province) {
+        String fileName = province.getGeojsonFilePath();
+        if (fileName == null || fileName.isBlank()) {
+            throw new RegionNotFoundException("GeoJSON 파일이 없는 시/도입니다: " + province.getRegionName());
+        }
+        try (InputStream inputStream = new ClassPathResource("static/geojson/" + fileName).getInputStream()) {
+            String geoJson = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            byte[] body = objectMapper.writeValueAsBytes(CommonApiResponse.success(geoJson));
+            return GeoJsonPayload.of(body, MediaType.APPLICATION_JSON);
+        } catch (IOException e) {
+            throw new RegionNotFoundException("GeoJSON 파일을 읽을 수 없습니다: " + fileName, e);
+        }
+    }
+}
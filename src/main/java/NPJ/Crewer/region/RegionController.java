@@ -6,11 +6,18 @@ import NPJ.Crewer.region.dto.CityResponseDTO;
 import NPJ.Crewer.region.dto.CommonApiResponse;
 import NPJ.Crewer.region.dto.DistrictResponseDTO;
 import NPJ.Crewer.region.dto.ProvinceResponseDTO;
+import NPJ.Crewer.region.tile.DistrictTileService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -18,7 +25,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RegionController {
 
+    // 경계 데이터는 배포 때만 바뀌므로 하루 동안 캐시하고 이후엔 ETag로 재검증
+    private static final CacheControl GEOMETRY_CACHE = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+    private static final MediaType VECTOR_TILE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
     private final RegionService regionService;
+    private final DistrictTileService districtTileService;
 
     // 1. 모든 시/도 목록 조회
     @GetMapping("/provinces")
@@ -59,9 +71,10 @@ public class RegionController {
     @GetMapping("/{provinceId}/districts/search")
     public ResponseEntity<CommonApiResponse<List<DistrictResponseDTO>>> searchDistrictsInProvince(
             @PathVariable("provinceId") String provinceId,
-            @RequestParam("query") String query) {
+            @RequestParam("query") String query,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
         
-        List<DistrictResponseDTO> districts = regionService.searchDistrictsInProvince(provinceId, query);
+        List<DistrictResponseDTO> districts = regionService.searchDistrictsInProvince(provinceId, query, limit);
         return ResponseEntity.ok(CommonApiResponse.success(districts));
     }
 
@@ -74,6 +87,19 @@ public class RegionController {
         return ResponseEntity.ok(CommonApiResponse.success(district));
     }
 
+    // 4-1. 행정동 경계 GeoJSON 조회 (gzip 압축, ETag)
+    @GetMapping("/districts/{districtId}/geometry")
+    public ResponseEntity<byte[]> getDistrictGeometry(
+            @PathVariable("districtId") String districtId,
+            WebRequest webRequest) {
+
+        try {
+            return regionService.getDistrictGeometry(districtId).toResponse(webRequest, GEOMETRY_CACHE);
+        } catch (RegionNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     // 5. 사용자 활동 지역 설정
     @PostMapping("/members/activity-region")
     public ResponseEntity<CommonApiResponse<DistrictResponseDTO>> setActivityRegion(
@@ -112,14 +138,52 @@ public class RegionController {
         return ResponseEntity.ok(CommonApiResponse.success(activityRegion, "활동 지역이 성공적으로 수정되었습니다."));
     }
 
-    // 8. 특정 시/도의 GeoJSON 데이터 조회
+    // 8. 특정 시/도의 GeoJSON 데이터 조회 (미리 압축해 둔 본문, gzip/ETag)
     @GetMapping("/{provinceId}/geojson")
-    public ResponseEntity<CommonApiResponse<String>> getProvinceGeoJson(@PathVariable("provinceId") String provinceId) {
+    public ResponseEntity<?> getProvinceGeoJson(
+            @PathVariable("provinceId") String provinceId,
+            WebRequest webRequest) {
         try {
-            String geoJsonData = regionService.getProvinceGeoJson(provinceId);
-            return ResponseEntity.ok(CommonApiResponse.success(geoJsonData));
+            return regionService.getProvinceGeoJson(provinceId).toResponse(webRequest, GEOMETRY_CACHE);
         } catch (RegionNotFoundException e) {
             return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
         }
     }
+
+    // 9. 행정동 경계 벡터 타일 (Mapbox Vector Tile, "districts" 레이어)
+    @GetMapping("/tiles/{z}/{x}/{y}.mvt")
+    public ResponseEntity<?> getDistrictTile(
+            @PathVariable("z") int z,
+            @PathVariable("x") int x,
+            @PathVariable("y") int y,
+            WebRequest webRequest) {
+        try {
+            DistrictTileService.Tile districtTile = districtTileService.findTile(z, x, y);
+            if (districtTile == null) {
+                // 경계 데이터를 읽기 전: 빈 타일이 캐시되지 않도록 재시도 안내
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .cacheControl(CacheControl.noStore())
+                        .header(HttpHeaders.RETRY_AFTER, "60")
+                        .build();
+            }
+            if (districtTile.isOutsideData()) {
+                return ResponseEntity.noContent().cacheControl(GEOMETRY_CACHE).build();
+            }
+            String eTag = districtTile.eTag();
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            byte[] tile = districtTileService.getTile(districtTile);
+            if (tile.length == 0) {
+                return ResponseEntity.noContent().cacheControl(GEOMETRY_CACHE).eTag(eTag).build();
+            }
+            return ResponseEntity.ok()
+                    .contentType(VECTOR_TILE)
+                    .cacheControl(GEOMETRY_CACHE)
+                    .eTag(eTag)
+                    .body(tile);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonApiResponse.error(e.getMessage()));
+        }
+    }
 }
@@ -24,6 +24,7 @@ public class RegionDataInitializer implements ApplicationRunner {
     private final ProvinceRepository provinceRepository;
     private final CityRepository cityRepository;
     private final DistrictRepository districtRepository;
+    private final DistrictGeometryRepository districtGeometryRepository;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private static final Logger logger = LoggerFactory.getLogger(RegionDataInitializer.class);
 
@@ -32,6 +33,10 @@ public class RegionDataInitializer implements ApplicationRunner {
     public void run(ApplicationArguments args) throws Exception {
         // DB에 데이터가 이미 있으면 실행하지 않음
         if (provinceRepository.count() > 0) {
+            // 경계 데이터를 district_geometries로 옮기기 전에 만든 DB는 경계만 다시 채움
+            if (districtGeometryRepository.count() == 0) {
+                initializeDistrictGeometries();
+            }
             logger.info("Region data already initialized. Skipping initialization.");
             return;
         }
@@ -47,6 +52,9 @@ public class RegionDataInitializer implements ApplicationRunner {
         // 3. 행정동 데이터 초기화
         initializeDistricts();
 
+        // 4. 행정동 경계 데이터 초기화
+        initializeDistrictGeometries();
+
         logger.info("Region data initialization completed successfully!");
         logger.info("Provinces: {}, Cities: {}, Districts: {}", 
                    provinceRepository.count(), 
@@ -250,8 +258,7 @@ public class RegionDataInitializer implements ApplicationRunner {
                          "동/읍/면",
                          city,
                          centerLat,
-                         centerLng,
-                         geometry.toString() // GeoJSON 데이터 저장
+                         centerLng
                      );
                     
                     districtsFromFile.add(district);
@@ -270,6 +277,38 @@ public class RegionDataInitializer implements ApplicationRunner {
         logger.info("Total initialized districts: {}", allDistrictsToSave.size());
     }
 
+    // 행정동 경계 폴리곤은 목록 조회에 섞이지 않도록 별도 테이블에 저장
+    private void initializeDistrictGeometries() {
+        logger.info("Initializing district geometries from GeoJSON files...");
+
+        Set<String> districtIds = districtRepository.findAll().stream()
+                .map(District::getRegionId)
+                .collect(Collectors.toSet());
+        List<DistrictGeometry> allGeometriesToSave = new ArrayList<>();
+
+        for (Province province : provinceRepository.findAll()) {
+            String fileName = province.getGeojsonFilePath();
+            if (fileName == null || fileName.isBlank()) {
+                continue;
+            }
+
+            try (InputStream inputStream = new ClassPathResource("static/geojson/" + fileName).getInputStream()) {
+                JsonNode features = objectMapper.readTree(inputStream).get("features");
+                for (JsonNode feature : features) {
+                    String admCd = feature.get("properties").get("adm_cd").asText();
+                    if (districtIds.contains(admCd)) {
+                        allGeometriesToSave.add(new DistrictGeometry(admCd, feature.get("geometry").toString()));
+                    }
+                }
+            } catch (Exception e) {
+                logger.error("Error processing geometries from file: " + fileName, e);
+            }
+        }
+
+        districtGeometryRepository.saveAll(allGeometriesToSave);
+        logger.info("Total initialized district geometries: {}", allGeometriesToSave.size());
+    }
+
     // 내부 데이터 클래스들
     private static class ProvinceData {
         String regionId, regionName, geojsonFilePath;
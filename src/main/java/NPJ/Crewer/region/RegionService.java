@@ -14,8 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,8 +25,12 @@ public class RegionService {
     private final ProvinceRepository provinceRepository;
     private final CityRepository cityRepository;
     private final DistrictRepository districtRepository;
+    private final DistrictGeometryRepository districtGeometryRepository;
     private final MemberActivityRegionRepository memberActivityRegionRepository;
     private final MemberRepository memberRepository;
+    private final DistrictAutocompleteIndex districtAutocompleteIndex;
+    private final ProvinceGeoJsonStore provinceGeoJsonStore;
+    private final DistrictGeometryStore districtGeometryStore;
 
     // 모든 시/도 목록 조회
     public List<ProvinceResponseDTO> getAllProvinces() {
@@ -40,14 +42,19 @@ public class RegionService {
 
     // 특정 시/군/구 내에서 행정동 검색 (모든 데이터 반환)
     public List<DistrictResponseDTO> searchDistrictsInCity(String cityId, String query, int limit) {
-        List<District> districts;
+        if (districtAutocompleteIndex.isReady()) {
+            return districtAutocompleteIndex.searchInCity(cityId, query, limit);
+        }
+
+        // 색인이 준비되기 전에는 DB에서 검색
+        List<DistrictResponseDTO> districts;
         
         if (query == null || query.trim().isEmpty()) {
             // 검색어가 없으면 모든 행정동 반환
-            districts = districtRepository.findByCityRegionIdOrderByRegionNameAsc(cityId);
+            districts = districtRepository.findSummariesByCityId(cityId);
         } else {
             // 검색어가 있으면 검색 결과 반환 (Pageable 제거)
-            districts = districtRepository.findByCityIdAndRegionNameContaining(cityId, query.trim());
+            districts = districtRepository.searchSummariesInCity(cityId, query.trim());
         }
         
         // limit이 설정되어 있으면 클라이언트에서 제한
@@ -55,9 +62,7 @@ public class RegionService {
             districts = districts.subList(0, limit);
         }
         
-        return districts.stream()
-                .map(DistrictResponseDTO::from)
-                .collect(Collectors.toList());
+        return districts;
     }
 
     // 특정 시/도 내의 모든 시/군/구 조회 (Fetch Join으로 N+1 문제 해결)
@@ -70,17 +75,18 @@ public class RegionService {
 
     // 특정 시/도 내의 모든 행정동 조회
     public List<DistrictResponseDTO> getAllDistrictsInProvince(String provinceId) {
-        List<District> districts = districtRepository.findByCityProvinceRegionIdOrderByRegionNameAsc(provinceId);
-        return districts.stream()
-                .map(DistrictResponseDTO::from)
-                .collect(Collectors.toList());
+        return districtRepository.findSummariesByProvinceId(provinceId);
     }
 
     // 특정 시/도 내에서 행정동 검색 (자동완성용)
-    public List<DistrictResponseDTO> searchDistrictsInProvince(String provinceId, String query) {
-        List<District> districts = districtRepository.findByProvinceIdAndRegionNameContaining(provinceId, query);
-        return districts.stream()
-                .map(DistrictResponseDTO::from)
+    public List<DistrictResponseDTO> searchDistrictsInProvince(String provinceId, String query, int limit) {
+        if (districtAutocompleteIndex.isReady()) {
+            return districtAutocompleteIndex.searchInProvince(provinceId, query, limit);
+        }
+
+        // 색인이 준비되기 전에는 DB에서 검색
+        return districtRepository.searchSummariesInProvince(provinceId, query).stream()
+                .limit(limit > 0 ? limit : Long.MAX_VALUE)
                 .collect(Collectors.toList());
     }
 
@@ -88,7 +94,18 @@ public class RegionService {
     public DistrictResponseDTO getDistrictDetail(String districtId) {
         District district = districtRepository.findByRegionId(districtId)
                 .orElseThrow(() -> new RegionNotFoundException("존재하지 않는 행정동입니다."));
-        return DistrictResponseDTO.from(district);
+        return DistrictResponseDTO.from(district, findGeojsonData(districtId));
+    }
+
+    // 행정동 경계 GeoJSON (geometry) 조회, 압축 본문과 ETag는 행정동마다 한 번만 만듦
+    public GeoJsonPayload getDistrictGeometry(String districtId) {
+        return districtGeometryStore.get(districtId);
+    }
+
+    private String findGeojsonData(String districtId) {
+        return districtGeometryRepository.findById(districtId)
+                .map(DistrictGeometry::getGeojsonData)
+                .orElse(null);
     }
 
     // 사용자 활동 지역 설정
@@ -112,7 +129,7 @@ public class RegionService {
             memberActivityRegionRepository.save(newActivityRegion);
         }
 
-        return DistrictResponseDTO.from(district);
+        return DistrictResponseDTO.from(district, findGeojsonData(district.getRegionId()));
     }
 
     // 사용자 활동 지역 조회
@@ -124,7 +141,8 @@ public class RegionService {
             return null;
         }
 
-        return DistrictResponseDTO.from(activityRegion.getDistrict());
+        District district = activityRegion.getDistrict();
+        return DistrictResponseDTO.from(district, findGeojsonData(district.getRegionId()));
     }
 
     // 특정 사용자의 활동 지역 조회 (username으로)
@@ -139,17 +157,9 @@ public class RegionService {
         return getActivityRegion(member);
     }
 
-    // 특정 시/도의 GeoJSON 파일 읽기
-    public String getProvinceGeoJson(String provinceId) {
-        Province province = provinceRepository.findById(provinceId)
-                .orElseThrow(() -> new RegionNotFoundException("존재하지 않는 시/도입니다."));
-        
-        try {
-            Resource resource = new ClassPathResource("static/geojson/" + province.getGeojsonFilePath());
-            return new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new RegionNotFoundException("GeoJSON 파일을 읽을 수 없습니다: " + province.getGeojsonFilePath(), e);
-        }
+    // 특정 시/도의 GeoJSON 응답 (기동 시 한 번 읽어 압축해 둔 본문)
+    public GeoJsonPayload getProvinceGeoJson(String provinceId) {
+        return provinceGeoJsonStore.get(provinceId);
     }
 
     // 특정 시/도의 GeoJSON 파일 존재 여부 확인
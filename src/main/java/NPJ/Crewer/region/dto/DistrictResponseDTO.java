@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,7 +19,32 @@ public class DistrictResponseDTO {
     private String level;
     private ParentRegionDTO parentRegion;
     private CoordinatesDTO coordinates;
-    private String geojsonData; // GeoJSON 경계 데이터 추가
+    private String geojsonData; // GeoJSON 경계 데이터 (상세 조회에만 포함)
+
+    // 목록/검색 쿼리의 DTO 프로젝션용 생성자 (경계 데이터 제외)
+    public DistrictResponseDTO(String regionId, String regionName, String fullName, String level,
+                               String cityId, String cityName, String cityFullName,
+                               BigDecimal latitude, BigDecimal longitude) {
+        this.regionId = regionId;
+        this.regionName = regionName;
+        this.fullName = fullName;
+        this.level = level;
+        this.parentRegion = ParentRegionDTO.builder()
+                .regionId(cityId)
+                .regionName(cityName)
+                .fullName(cityFullName)
+                .build();
+        this.coordinates = CoordinatesDTO.builder()
+                .lat(latitude.doubleValue())
+                .lng(longitude.doubleValue())
+                .build();
+    }
+
+    public static DistrictResponseDTO from(District district, String geojsonData) {
+        DistrictResponseDTO response = from(district);
+        response.setGeojsonData(geojsonData);
+        return response;
+    }
 
     public static DistrictResponseDTO from(District district) {
         return DistrictResponseDTO.builder()
@@ -34,7 +61,6 @@ public class DistrictResponseDTO {
                         .lat(district.getLatitude().doubleValue())
                         .lng(district.getLongitude().doubleValue())
                         .build())
-                .geojsonData(district.getGeojsonData()) // GeoJSON 데이터 추가
                 .build();
     }
 }
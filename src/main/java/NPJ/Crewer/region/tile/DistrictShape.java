@@ -0,0 +1,16 @@
+package NPJ.Crewer.region.tile;
+
+import java.util.List;
+
+/**
+ * 타일 생성용 행정동 경계.
+ * 좌표는 웹 메르카토르를 0~1로 정규화한 값이며, polygons의 각 원소는 [외곽 링, 구멍 링...] 이고
+ * 링은 닫는 점 없이 [x0, y0, x1, y1, ...] 형태다.
+ */
+record DistrictShape(long id, String regionId, String regionName, String fullName, String cityId,
+                     List<double[][]> polygons, double minX, double minY, double maxX, double maxY) {
+
+    boolean intersects(double left, double top, double right, double bottom) {
+        return minX <= right && maxX >= left && minY <= bottom && maxY >= top;
+    }
+}
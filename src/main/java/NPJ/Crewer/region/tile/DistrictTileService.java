@@ -0,0 +1,392 @@
+package NPJ.Crewer.region.tile;
+
+import NPJ.Crewer.region.DistrictGeometry;
+import NPJ.Crewer.region.DistrictGeometryRepository;
+import NPJ.Crewer.region.DistrictRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 행정동 경계 벡터 타일(MVT) 생성.
+ * 행정동 폴리곤을 기동 시 한 번 읽어 웹 메르카토르 좌표로 메모리에 두고 (데이터가 없으면 일정 간격으로만 다시 시도),
+ * 요청한 z/x/y 타일 영역(+버퍼)으로 잘라 줌에 맞게 단순화한 "districts" 레이어를 만든다.
+ * cache-max-zoom 이하의 타일은 {cache-dir}/{버전}-{데이터 버전}/{z}/{x}/{y}.mvt 에 저장해 두고 이후엔 파일을 그대로 돌려준다.
+ * (그보다 큰 줌은 타일 수가 너무 많아 디스크에 두지 않고, 타일마다 겹치는 행정동이 적어 매번 만들어도 가벼움)
+ * 데이터 버전은 경계 데이터 전체의 해시라 경계가 바뀌면 ETag와 디스크 캐시가 함께 바뀌고,
+ * 경계 데이터 범위 밖이거나 피처가 없는 빈 타일은 만들거나 저장하지 않는다.
+ */
+@Slf4j
+@Service
+public class DistrictTileService {
+
+    public static final int MIN_ZOOM = 6;
+    public static final int MAX_ZOOM = 16;
+
+    private static final String LAYER_NAME = "districts";
+    // 타일 내용(인코딩, 단순화 기준, 속성)을 바꾸면 올려서 디스크 캐시와 ETag를 함께 무효화
+    private static final String TILE_VERSION = "v1";
+    private static final int BUFFER = 64;
+    // 타일 좌표 단위 허용 오차 (256px 타일 기준 0.5px)
+    private static final double SIMPLIFY_TOLERANCE = 8;
+    private static final double MAX_LATITUDE = 85.05112878;
+    // 경계 데이터가 비어 있을 때 다시 읽기까지의 간격 (익명 요청마다 전체 경계를 다시 읽지 않도록)
+    private static final Duration RELOAD_INTERVAL = Duration.ofMinutes(1);
+
+    private final DistrictRepository districtRepository;
+    private final DistrictGeometryRepository districtGeometryRepository;
+    private final ObjectMapper objectMapper;
+    private final Path cacheDir;
+    private final int cacheMaxZoom;
+    private volatile TileData data;
+    private long nextLoadAt;
+
+    public DistrictTileService(DistrictRepository districtRepository,
+                               DistrictGeometryRepository districtGeometryRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${region.tile.cache-dir:${java.io.tmpdir}/crewer-tiles}") String cacheDir,
+                               @Value("${region.tile.cache-max-zoom:13}") int cacheMaxZoom) {
+        this.districtRepository = districtRepository;
+        this.districtGeometryRepository = districtGeometryRepository;
+        this.objectMapper = objectMapper;
+        this.cacheDir = Paths.get(cacheDir);
+        this.cacheMaxZoom = cacheMaxZoom;
+    }
+
+    // 첫 타일 요청이 경계 데이터 전체를 읽지 않도록 기동 시 미리 읽음
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            data();
+        } catch (RuntimeException e) {
+            log.error("Failed to preload district tile data: {}", e.getMessage(), e);
+        }
+    }
+
+    // 요청한 타일, 경계 데이터를 아직 읽지 못했으면 null (한 요청 안에서는 같은 데이터 버전을 사용)
+    public Tile findTile(int z, int x, int y) {
+        validate(z, x, y);
+        TileData loaded = data();
+        return loaded == null ? null : new Tile(loaded, z, x, y);
+    }
+
+    // 타일 본문, 피처가 없으면 길이 0 (빈 타일과 cache-max-zoom보다 큰 줌의 타일은 저장하지 않음)
+    public byte[] getTile(Tile tile) {
+        if (tile.isOutsideData()) {
+            return new byte[0];
+        }
+        TileData loaded = tile.data;
+        int z = tile.z;
+        int x = tile.x;
+        int y = tile.y;
+
+        Path file = z <= cacheMaxZoom
+                ? cacheDir.resolve(TILE_VERSION + "-" + loaded.version())
+                        .resolve(Integer.toString(z))
+                        .resolve(Integer.toString(x))
+                        .resolve(y + ".mvt")
+                : null;
+        if (file != null && Files.isRegularFile(file)) {
+            try {
+                return Files.readAllBytes(file);
+            } catch (IOException e) {
+                log.warn("Failed to read cached tile {}: {}", file, e.getMessage());
+            }
+        }
+
+        byte[] body = render(loaded.shapes(), z, x, y, tile.bounds);
+        if (file != null && body.length > 0) {
+            store(file, body);
+        }
+        return body;
+    }
+
+    private static void validate(int z, int x, int y) {
+        if (z < MIN_ZOOM || z > MAX_ZOOM) {
+            throw new IllegalArgumentException("지원하지 않는 줌 레벨입니다. (" + MIN_ZOOM + " ~ " + MAX_ZOOM + ")");
+        }
+        int tiles = 1 << z;
+        if (x < 0 || x >= tiles || y < 0 || y >= tiles) {
+            throw new IllegalArgumentException("잘못된 타일 좌표입니다.");
+        }
+    }
+
+    // 타일 영역 + 버퍼 [left, top, right, bottom] (0~1 웹 메르카토르)
+    private static double[] tileBounds(int z, int x, int y) {
+        double tiles = 1 << z;
+        double buffer = (double) BUFFER / VectorTileEncoder.EXTENT / tiles;
+        return new double[]{x / tiles - buffer, y / tiles - buffer, (x + 1) / tiles + buffer, (y + 1) / tiles + buffer};
+    }
+
+    private byte[] render(List<DistrictShape> loaded, int z, int x, int y, double[] bounds) {
+        double tiles = 1 << z;
+        double scale = tiles * VectorTileEncoder.EXTENT;
+        double offsetX = (double) x * VectorTileEncoder.EXTENT;
+        double offsetY = (double) y * VectorTileEncoder.EXTENT;
+
+        VectorTileEncoder encoder = new VectorTileEncoder(LAYER_NAME);
+        for (DistrictShape shape : loaded) {
+            if (!shape.intersects(bounds[0], bounds[1], bounds[2], bounds[3])) {
+                continue;
+            }
+            List<int[]> rings = new ArrayList<>();
+            for (double[][] polygon : shape.polygons()) {
+                int[] exterior = TileGeometry.toTileRing(polygon[0], scale, offsetX, offsetY,
+                        -BUFFER, VectorTileEncoder.EXTENT + BUFFER, SIMPLIFY_TOLERANCE, true);
+                if (exterior == null) {
+                    continue;
+                }
+                rings.add(exterior);
+                for (int i = 1; i < polygon.length; i++) {
+                    int[] hole = TileGeometry.toTileRing(polygon[i], scale, offsetX, offsetY,
+                            -BUFFER, VectorTileEncoder.EXTENT + BUFFER, SIMPLIFY_TOLERANCE, false);
+                    if (hole != null) {
+                        rings.add(hole);
+                    }
+                }
+            }
+            encoder.addPolygon(shape.id(), properties(shape), rings);
+        }
+        return encoder.encode();
+    }
+
+    private static Map<String, String> properties(DistrictShape shape) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("regionId", shape.regionId());
+        properties.put("regionName", shape.regionName());
+        properties.put("fullName", shape.fullName());
+        properties.put("cityId", shape.cityId());
+        return properties;
+    }
+
+    // 임시 파일에 쓴 뒤 옮겨서 반쯤 쓰인 타일이 제공되지 않도록 함, 캐시 실패는 응답에 영향 없음
+    private void store(Path file, byte[] tile) {
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = file.resolveSibling(UUID.randomUUID() + ".part");
+            Files.write(temp, tile);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to cache tile {}: {}", file, e.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+
+    // 한 번만 읽음 (비어 있으면 null, RELOAD_INTERVAL이 지난 뒤의 요청에서만 다시 시도)
+    private TileData data() {
+        TileData loaded = data;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (this) {
+            if (data == null && System.currentTimeMillis() >= nextLoadAt) {
+                nextLoadAt = System.currentTimeMillis() + RELOAD_INTERVAL.toMillis();
+                data = loadData();
+            }
+            return data;
+        }
+    }
+
+    private TileData loadData() {
+        // [행정동 코드, 행정동명, 전체 주소, ..., 시/군/구 코드(6)]
+        Map<String, Object[]> districts = new HashMap<>();
+        for (Object[] row : districtRepository.findAllForAutocomplete()) {
+            districts.put((String) row[0], row);
+        }
+
+        List<DistrictGeometry> geometries = new ArrayList<>(districtGeometryRepository.findAll());
+        geometries.sort(Comparator.comparing(DistrictGeometry::getRegionId));
+
+        List<DistrictShape> loaded = new ArrayList<>(districts.size());
+        MessageDigest digest = sha256();
+        for (DistrictGeometry geometry : geometries) {
+            Object[] district = districts.get(geometry.getRegionId());
+            if (district == null) {
+                continue;
+            }
+            // 데이터 버전: 타일에 들어가는 경계와 속성 전체의 해시
+            for (int column : new int[]{0, 1, 2, 6}) {
+                digest.update(String.valueOf(district[column]).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            digest.update(geometry.getGeojsonData().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            try {
+                DistrictShape shape = toShape(district, objectMapper.readTree(geometry.getGeojsonData()));
+                if (shape != null) {
+                    loaded.add(shape);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping tile geometry of district {}: {}", geometry.getRegionId(), e.getMessage());
+            }
+        }
+        if (loaded.isEmpty()) {
+            return null;
+        }
+        String version = HexFormat.of().formatHex(digest.digest(), 0, 6);
+        log.info("Loaded {} district shapes for vector tiles (data version {})", loaded.size(), version);
+        return TileData.of(List.copyOf(loaded), version);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DistrictShape toShape(Object[] district, JsonNode geometry) {
+        JsonNode coordinates = geometry.path("coordinates");
+        List<JsonNode> polygonNodes = new ArrayList<>();
+        switch (geometry.path("type").asText()) {
+            case "Polygon" -> polygonNodes.add(coordinates);
+            case "MultiPolygon" -> coordinates.forEach(polygonNodes::add);
+            default -> {
+                return null;
+            }
+        }
+
+        double[] bounds = {Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        List<double[][]> polygons = new ArrayList<>();
+        for (JsonNode polygonNode : polygonNodes) {
+            if (polygonNode.isEmpty()) {
+                continue;
+            }
+            double[][] rings = new double[polygonNode.size()][];
+            for (int i = 0; i < rings.length; i++) {
+                rings[i] = toMercatorRing(polygonNode.get(i), i == 0 ? bounds : null);
+            }
+            if (rings[0].length >= 6) {
+                polygons.add(rings);
+            }
+        }
+        if (polygons.isEmpty()) {
+            return null;
+        }
+
+        String regionId = (String) district[0];
+        return new DistrictShape(featureId(regionId), regionId, (String) district[1], (String) district[2],
+                (String) district[6], List.copyOf(polygons), bounds[0], bounds[1], bounds[2], bounds[3]);
+    }
+
+    // [경도, 위도] 링을 0~1 웹 메르카토르 좌표로 (GeoJSON의 닫는 점은 제외), bounds가 있으면 범위 갱신
+    private static double[] toMercatorRing(JsonNode ringNode, double[] bounds) {
+        int points = ringNode.size();
+        if (points > 1 && ringNode.get(0).equals(ringNode.get(points - 1))) {
+            points--;
+        }
+        double[] ring = new double[points * 2];
+        for (int i = 0; i < points; i++) {
+            JsonNode coordinate = ringNode.get(i);
+            double mx = (coordinate.get(0).asDouble() + 180) / 360;
+            double latitude = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, coordinate.get(1).asDouble()));
+            double sin = Math.sin(Math.toRadians(latitude));
+            double my = 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+            ring[i * 2] = mx;
+            ring[i * 2 + 1] = my;
+            if (bounds != null) {
+                bounds[0] = Math.min(bounds[0], mx);
+                bounds[1] = Math.min(bounds[1], my);
+                bounds[2] = Math.max(bounds[2], mx);
+                bounds[3] = Math.max(bounds[3], my);
+            }
+        }
+        return ring;
+    }
+
+    // 행정동 코드(숫자 10자리)를 피처 id로 사용
+    private static long featureId(String regionId) {
+        try {
+            return Long.parseLong(regionId);
+        } catch (NumberFormatException e) {
+            return Integer.toUnsignedLong(regionId.hashCode());
+        }
+    }
+
+    // 한 요청이 사용하는 타일 좌표와 경계 데이터
+    public static final class Tile {
+
+        private final TileData data;
+        private final int z;
+        private final int x;
+        private final int y;
+        private final double[] bounds;
+
+        private Tile(TileData data, int z, int x, int y) {
+            this.data = data;
+            this.z = z;
+            this.x = x;
+            this.y = y;
+            this.bounds = tileBounds(z, x, y);
+        }
+
+        // 타일 내용은 버전, 데이터 버전, 좌표로 정해지므로 파일을 읽지 않고 ETag를 만들 수 있음
+        public String eTag() {
+            return "\"" + TILE_VERSION + "-" + data.version() + "-" + z + "-" + x + "-" + y + "\"";
+        }
+
+        // 경계 데이터 전체 범위(+버퍼)와 겹치지 않는 타일은 항상 비어 있음
+        public boolean isOutsideData() {
+            return !data.intersects(bounds[0], bounds[1], bounds[2], bounds[3]);
+        }
+    }
+
+    // 읽어 둔 경계 데이터와 그 버전, 전체 범위
+    private record TileData(List<DistrictShape> shapes, String version,
+                            double minX, double minY, double maxX, double maxY) {
+
+        private static TileData of(List<DistrictShape> shapes, String version) {
+            double minX = Double.MAX_VALUE;
+            double minY = Double.MAX_VALUE;
+            double maxX = -Double.MAX_VALUE;
+            double maxY = -Double.MAX_VALUE;
+            for (DistrictShape shape : shapes) {
+                minX = Math.min(minX, shape.minX());
+                minY = Math.min(minY, shape.minY());
+                maxX = Math.max(maxX, shape.maxX());
+                maxY = Math.max(maxY, shape.maxY());
+            }
+            return new TileData(shapes, version, minX, minY, maxX, maxY);
+        }
+
+        private boolean intersects(double left, double top, double right, double bottom) {
+            return minX <= right && maxX >= left && minY <= bottom && maxY >= top;
+        }
+    }
+}
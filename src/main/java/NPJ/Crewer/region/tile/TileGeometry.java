@@ -0,0 +1,191 @@
+package NPJ.Crewer.region.tile;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * 타일 좌표계에서의 링 처리: 타일 영역(+버퍼)으로 자르고 Douglas-Peucker로 단순화한 뒤 정수 좌표로 만든다.
+ * 단순화 허용 오차를 타일 좌표 단위로 고정하므로 낮은 줌일수록 실제 거리 기준으로 더 많이 단순화된다.
+ */
+final class TileGeometry {
+
+    private TileGeometry() {
+    }
+
+    /**
+     * 링 하나를 타일 정수 좌표로 변환. 잘린 뒤 면적이 없어지면 null.
+     * exterior이면 양의 면적(화면 좌표 시계 방향), 구멍이면 음의 면적이 되도록 방향을 맞춘다.
+     */
+    static int[] toTileRing(double[] ring, double scale, double offsetX, double offsetY,
+                            double min, double max, double tolerance, boolean exterior) {
+        int points = ring.length / 2;
+        double[] projected = new double[points * 2];
+        for (int i = 0; i < points; i++) {
+            projected[i * 2] = ring[i * 2] * scale - offsetX;
+            projected[i * 2 + 1] = ring[i * 2 + 1] * scale - offsetY;
+        }
+
+        double[] clipped = clip(projected, min, max);
+        if (clipped.length < 6) {
+            return null;
+        }
+        int[] rounded = round(simplify(clipped, tolerance));
+        if (rounded.length < 6) {
+            return null;
+        }
+        long area = signedArea(rounded);
+        if (area == 0) {
+            return null;
+        }
+        if ((area > 0) != exterior) {
+            reverse(rounded);
+        }
+        return rounded;
+    }
+
+    // Sutherland-Hodgman: 정사각형 [min, max] 의 네 변에 대해 차례로 자름
+    static double[] clip(double[] ring, double min, double max) {
+        double[] result = ring;
+        for (int edge = 0; edge < 4 && result.length >= 6; edge++) {
+            result = clipEdge(result, edge, edge < 2 ? min : max);
+        }
+        return result;
+    }
+
+    // edge: 0 = x >= bound, 1 = y >= bound, 2 = x <= bound, 3 = y <= bound
+    private static double[] clipEdge(double[] ring, int edge, double bound) {
+        int points = ring.length / 2;
+        int axis = edge % 2;
+        boolean keepGreater = edge < 2;
+        double[] output = new double[points * 4];
+        int size = 0;
+
+        for (int i = 0; i < points; i++) {
+            int previous = (i + points - 1) % points;
+            double currentValue = ring[i * 2 + axis];
+            double previousValue = ring[previous * 2 + axis];
+            boolean currentInside = keepGreater ? currentValue >= bound : currentValue <= bound;
+            boolean previousInside = keepGreater ? previousValue >= bound : previousValue <= bound;
+
+            if (currentInside != previousInside) {
+                double t = (bound - previousValue) / (currentValue - previousValue);
+                output[size++] = ring[previous * 2] + (ring[i * 2] - ring[previous * 2]) * t;
+                output[size++] = ring[previous * 2 + 1] + (ring[i * 2 + 1] - ring[previous * 2 + 1]) * t;
+            }
+            if (currentInside) {
+                output[size++] = ring[i * 2];
+                output[size++] = ring[i * 2 + 1];
+            }
+        }
+        return Arrays.copyOf(output, size);
+    }
+
+    // 닫힌 링을 첫 점에서 첫 점으로 돌아오는 선으로 보고 Douglas-Peucker 단순화
+    static double[] simplify(double[] ring, double tolerance) {
+        int points = ring.length / 2;
+        if (tolerance <= 0 || points <= 3) {
+            return ring;
+        }
+        boolean[] keep = new boolean[points + 1];
+        keep[0] = true;
+        keep[points] = true;
+        double squaredTolerance = tolerance * tolerance;
+
+        Deque<int[]> ranges = new ArrayDeque<>();
+        ranges.push(new int[]{0, points});
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int first = range[0];
+            int last = range[1];
+            double maxDistance = 0;
+            int farthest = -1;
+            for (int i = first + 1; i < last; i++) {
+                double distance = squaredSegmentDistance(ring, i, first, last % points);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+            if (farthest >= 0 && maxDistance > squaredTolerance) {
+                keep[farthest] = true;
+                ranges.push(new int[]{first, farthest});
+                ranges.push(new int[]{farthest, last});
+            }
+        }
+
+        double[] simplified = new double[ring.length];
+        int size = 0;
+        for (int i = 0; i < points; i++) {
+            if (keep[i]) {
+                simplified[size++] = ring[i * 2];
+                simplified[size++] = ring[i * 2 + 1];
+            }
+        }
+        return Arrays.copyOf(simplified, size);
+    }
+
+    // 점 p에서 선분 (a, b)까지 거리의 제곱 (a와 b가 같으면 점 사이 거리)
+    private static double squaredSegmentDistance(double[] ring, int p, int a, int b) {
+        double x = ring[a * 2];
+        double y = ring[a * 2 + 1];
+        double dx = ring[b * 2] - x;
+        double dy = ring[b * 2 + 1] - y;
+        if (dx != 0 || dy != 0) {
+            double t = ((ring[p * 2] - x) * dx + (ring[p * 2 + 1] - y) * dy) / (dx * dx + dy * dy);
+            if (t > 1) {
+                x = ring[b * 2];
+                y = ring[b * 2 + 1];
+            } else if (t > 0) {
+                x += dx * t;
+                y += dy * t;
+            }
+        }
+        dx = ring[p * 2] - x;
+        dy = ring[p * 2 + 1] - y;
+        return dx * dx + dy * dy;
+    }
+
+    // 정수로 반올림하고 연달아 같은 점과 마지막의 닫는 점 제거
+    private static int[] round(double[] ring) {
+        int points = ring.length / 2;
+        int[] rounded = new int[points * 2];
+        int size = 0;
+        for (int i = 0; i < points; i++) {
+            int x = (int) Math.round(ring[i * 2]);
+            int y = (int) Math.round(ring[i * 2 + 1]);
+            if (size > 0 && rounded[size - 2] == x && rounded[size - 1] == y) {
+                continue;
+            }
+            rounded[size++] = x;
+            rounded[size++] = y;
+        }
+        if (size >= 4 && rounded[0] == rounded[size - 2] && rounded[1] == rounded[size - 1]) {
+            size -= 2;
+        }
+        return Arrays.copyOf(rounded, size);
+    }
+
+    // 신발끈 공식 (y가 아래로 증가하는 타일 좌표에서 시계 방향이면 양수)
+    private static long signedArea(int[] ring) {
+        int points = ring.length / 2;
+        long sum = 0;
+        for (int i = 0; i < points; i++) {
+            int next = (i + 1) % points;
+            sum += (long) ring[i * 2] * ring[next * 2 + 1] - (long) ring[next * 2] * ring[i * 2 + 1];
+        }
+        return sum;
+    }
+
+    private static void reverse(int[] ring) {
+        int points = ring.length / 2;
+        for (int i = 0, j = points - 1; i < j; i++, j--) {
+            int x = ring[i * 2];
+            int y = ring[i * 2 + 1];
+            ring[i * 2] = ring[j * 2];
+            ring[i * 2 + 1] = ring[j * 2 + 1];
+            ring[j * 2] = x;
+            ring[j * 2 + 1] = y;
+        }
+    }
+}
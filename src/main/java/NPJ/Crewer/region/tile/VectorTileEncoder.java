@@ -0,0 +1,169 @@
+package NPJ.Crewer.region.tile;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapbox Vector Tile(v2) 한 레이어 인코더.
+ * 폴리곤 피처만 다루므로 protobuf 직렬화를 직접 하고, 속성 키/값은 레이어 안에서 중복 없이 공유한다.
+ * 좌표는 타일 좌표(0 ~ EXTENT, 정수)로 받는다.
+ */
+final class VectorTileEncoder {
+
+    static final int EXTENT = 4096;
+
+    private static final int VERSION = 2;
+    private static final int POLYGON = 3;
+    private static final int MOVE_TO = 1;
+    private static final int LINE_TO = 2;
+    private static final int CLOSE_PATH = 7;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+
+    private final String layerName;
+    private final List<String> keys = new ArrayList<>();
+    private final Map<String, Integer> keyIndex = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+    private final Map<String, Integer> valueIndex = new HashMap<>();
+    private final ByteArrayOutputStream features = new ByteArrayOutputStream();
+    private int featureCount;
+
+    VectorTileEncoder(String layerName) {
+        this.layerName = layerName;
+    }
+
+    /**
+     * 폴리곤 피처 추가. rings는 외곽 링(양의 면적) 뒤에 그 구멍 링(음의 면적)이 오는 순서이며,
+     * 각 링은 닫는 점 없이 [x0, y0, x1, y1, ...] 형태다.
+     */
+    void addPolygon(long id, Map<String, String> properties, List<int[]> rings) {
+        if (rings.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream feature = new ByteArrayOutputStream();
+        writeTag(feature, 1, WIRE_VARINT);
+        writeVarint(feature, id);
+
+        List<Integer> tags = new ArrayList<>(properties.size() * 2);
+        properties.forEach((key, value) -> {
+            if (value != null) {
+                tags.add(keyIndex.computeIfAbsent(key, k -> add(keys, k)));
+                tags.add(valueIndex.computeIfAbsent(value, v -> add(values, v)));
+            }
+        });
+        writePacked(feature, 2, tags.stream().mapToInt(Integer::intValue).toArray());
+
+        writeTag(feature, 3, WIRE_VARINT);
+        writeVarint(feature, POLYGON);
+        writePacked(feature, 4, polygonCommands(rings));
+
+        writeBytes(features, 2, feature.toByteArray());
+        featureCount++;
+    }
+
+    // 피처가 없으면 빈 타일 (길이 0)
+    byte[] encode() {
+        if (featureCount == 0) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream layer = new ByteArrayOutputStream();
+        writeTag(layer, 15, WIRE_VARINT);
+        writeVarint(layer, VERSION);
+        writeBytes(layer, 1, utf8(layerName));
+        layer.writeBytes(features.toByteArray());
+        for (String key : keys) {
+            writeBytes(layer, 3, utf8(key));
+        }
+        for (String value : values) {
+            // Value 메시지의 string_value(1)
+            ByteArrayOutputStream encodedValue = new ByteArrayOutputStream();
+            writeBytes(encodedValue, 1, utf8(value));
+            writeBytes(layer, 4, encodedValue.toByteArray());
+        }
+        writeTag(layer, 5, WIRE_VARINT);
+        writeVarint(layer, EXTENT);
+
+        ByteArrayOutputStream tile = new ByteArrayOutputStream();
+        writeBytes(tile, 3, layer.toByteArray());
+        return tile.toByteArray();
+    }
+
+    // 링마다 MoveTo(1) → LineTo(n-1) → ClosePath, 좌표는 이전 점과의 차이를 zigzag로 인코딩
+    private static int[] polygonCommands(List<int[]> rings) {
+        int size = 0;
+        for (int[] ring : rings) {
+            size += ring.length + 3;
+        }
+        int[] commands = new int[size];
+        int position = 0;
+        int cursorX = 0;
+        int cursorY = 0;
+        for (int[] ring : rings) {
+            int points = ring.length / 2;
+            for (int i = 0; i < points; i++) {
+                if (i == 0) {
+                    commands[position++] = command(MOVE_TO, 1);
+                } else if (i == 1) {
+                    commands[position++] = command(LINE_TO, points - 1);
+                }
+                int x = ring[i * 2];
+                int y = ring[i * 2 + 1];
+                commands[position++] = zigzag(x - cursorX);
+                commands[position++] = zigzag(y - cursorY);
+                cursorX = x;
+                cursorY = y;
+            }
+            commands[position++] = command(CLOSE_PATH, 1);
+        }
+        return position == size ? commands : Arrays.copyOf(commands, position);
+    }
+
+    private static int command(int id, int count) {
+        return (id & 0x7) | (count << 3);
+    }
+
+    private static int zigzag(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    private static int add(List<String> list, String item) {
+        list.add(item);
+        return list.size() - 1;
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writePacked(ByteArrayOutputStream out, int field, int[] items) {
+        ByteArrayOutputStream packed = new ByteArrayOutputStream(items.length * 2);
+        for (int item : items) {
+            writeVarint(packed, item & 0xFFFFFFFFL);
+        }
+        writeBytes(out, field, packed.toByteArray());
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, int field, byte[] bytes) {
+        writeTag(out, field, WIRE_LENGTH_DELIMITED);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static void writeTag(ByteArrayOutputStream out, int field, int wireType) {
+        writeVarint(out, ((long) field << 3) | wireType);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
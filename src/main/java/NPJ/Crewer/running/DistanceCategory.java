@@ -0,0 +1,40 @@
+package NPJ.Crewer.running;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+// 랭킹 집계에 사용하는 거리 구간 (findRankings 쿼리의 CASE 구간과 동일)
+@Getter
+@RequiredArgsConstructor
+public enum DistanceCategory {
+    KM_1_3("1-3km", 1000, 3000),
+    KM_3_5("3-5km", 3000, 5000),
+    KM_5_10("5-10km", 5000, 10000),
+    KM_10_21("10-21km", 10000, 21000),
+    KM_21_OVER("21km~", 21000, Double.MAX_VALUE);
+
+    private final String label;
+    private final double minDistance; // 이상 (미터)
+    private final double maxDistance; // 미만 (미터)
+
+    // 거리(미터)에 해당하는 구간을 반환, 1km 미만은 랭킹 대상이 아님
+    public static Optional<DistanceCategory> of(double totalDistance) {
+        for (DistanceCategory category : values()) {
+            if (totalDistance >= category.minDistance && totalDistance < category.maxDistance) {
+                return Optional.of(category);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Optional<DistanceCategory> fromLabel(String label) {
+        for (DistanceCategory category : values()) {
+            if (category.label.equals(label)) {
+                return Optional.of(category);
+            }
+        }
+        return Optional.empty();
+    }
+}
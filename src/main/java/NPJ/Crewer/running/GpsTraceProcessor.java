@@ -0,0 +1,153 @@
+package NPJ.Crewer.running;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 기록 저장 전 GPS 경로 정제 파이프라인.
+ * 1) 튀는 점(jitter spike) 제거 → 2) 정제된 경로로 haversine 총 거리 재계산 → 3) Douglas-Peucker 단순화
+ */
+@Component
+public class GpsTraceProcessor {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    // 앞뒤 점과 모두 이 거리 이상 떨어져 있으면서 앞뒤 점끼리는 가까운 점을 튀는 점으로 판단
+    @Value("${running.path.max-jump-meters:50}")
+    private double maxJumpMeters;
+
+    // Douglas-Peucker 허용 오차 (0 이하이면 단순화하지 않음)
+    @Value("${running.path.simplify-tolerance-meters:3}")
+    private double simplifyToleranceMeters;
+
+    public ProcessedTrace process(List<RunningRecord.LocationPoint> rawPoints) {
+        List<RunningRecord.LocationPoint> cleaned = removeOutliers(rawPoints);
+        double distance = totalDistance(cleaned);
+        List<RunningRecord.LocationPoint> simplified = simplifyToleranceMeters > 0
+                ? simplify(cleaned, simplifyToleranceMeters)
+                : cleaned;
+        return new ProcessedTrace(simplified, distance);
+    }
+
+    List<RunningRecord.LocationPoint> removeOutliers(List<RunningRecord.LocationPoint> points) {
+        if (points.size() < 3) {
+            return points;
+        }
+        List<RunningRecord.LocationPoint> cleaned = new ArrayList<>(points.size());
+        cleaned.add(points.get(0));
+        for (int i = 1; i < points.size() - 1; i++) {
+            RunningRecord.LocationPoint prev = cleaned.get(cleaned.size() - 1);
+            RunningRecord.LocationPoint current = points.get(i);
+            RunningRecord.LocationPoint next = points.get(i + 1);
+
+            boolean isSpike = haversine(prev, current) > maxJumpMeters
+                    && haversine(current, next) > maxJumpMeters
+                    && haversine(prev, next) <= maxJumpMeters;
+            if (!isSpike) {
+                cleaned.add(current);
+            }
+        }
+        cleaned.add(points.get(points.size() - 1));
+        return cleaned;
+    }
+
+    // 반복문 기반 Douglas-Peucker (긴 경로에서도 재귀 깊이 문제 없음)
+    List<RunningRecord.LocationPoint> simplify(List<RunningRecord.LocationPoint> points, double toleranceMeters) {
+        int n = points.size();
+        if (n < 3) {
+            return points;
+        }
+
+        // 시작점 위도 기준 등장방형 투영으로 미터 단위 평면 좌표 계산
+        double refLat = Math.toRadians(points.get(0).getLatitude());
+        double metersPerDegLat = Math.toRadians(1) * EARTH_RADIUS_METERS;
+        double metersPerDegLon = metersPerDegLat * Math.cos(refLat);
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = points.get(i).getLongitude() * metersPerDegLon;
+            ys[i] = points.get(i).getLatitude() * metersPerDegLat;
+        }
+
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+        double toleranceSq = toleranceMeters * toleranceMeters;
+
+        Deque<int[]> ranges = new ArrayDeque<>();
+        ranges.push(new int[]{0, n - 1});
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int start = range[0];
+            int end = range[1];
+
+            double maxDistSq = 0;
+            int farthest = -1;
+            for (int i = start + 1; i < end; i++) {
+                double distSq = segmentDistanceSq(xs[i], ys[i], xs[start], ys[start], xs[end], ys[end]);
+                if (distSq > maxDistSq) {
+                    maxDistSq = distSq;
+                    farthest = i;
+                }
+            }
+
+            if (farthest != -1 && maxDistSq > toleranceSq) {
+                keep[farthest] = true;
+                ranges.push(new int[]{start, farthest});
+                ranges.push(new int[]{farthest, end});
+            }
+        }
+
+        List<RunningRecord.LocationPoint> simplified = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                simplified.add(points.get(i));
+            }
+        }
+        return simplified;
+    }
+
+    public static double totalDistance(List<RunningRecord.LocationPoint> points) {
+        double distance = 0;
+        for (int i = 1; i < points.size(); i++) {
+            distance += haversine(points.get(i - 1), points.get(i));
+        }
+        return distance;
+    }
+
+    // 두 좌표 사이의 대원 거리 (미터)
+    public static double haversine(RunningRecord.LocationPoint a, RunningRecord.LocationPoint b) {
+        double lat1 = Math.toRadians(a.getLatitude());
+        double lat2 = Math.toRadians(b.getLatitude());
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(b.getLongitude() - a.getLongitude());
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(h)));
+    }
+
+    private static double segmentDistanceSq(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSq = dx * dx + dy * dy;
+        double t = lengthSq == 0 ? 0 : Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSq));
+        double cx = ax + t * dx - px;
+        double cy = ay + t * dy - py;
+        return cx * cx + cy * cy;
+    }
+
+    // 정제 결과: 저장할 단순화 경로와 정제 경로 기준 총 거리(미터)
+    @Getter
+    @AllArgsConstructor
+    public static class ProcessedTrace {
+        private final List<RunningRecord.LocationPoint> points;
+        private final double totalDistance;
+    }
+}
@@ -0,0 +1,94 @@
+package NPJ.Crewer.running;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GPS 경로를 하나의 byte[]로 압축/복원한다.
+ * 좌표를 1e-7도 고정소수점 정수로 바꾼 뒤 직전 좌표와의 차이(delta)를 zigzag varint로 기록하므로
+ * 1Hz 러닝 경로 기준 한 점당 보통 2~4바이트만 사용한다.
+ *
+ * 포맷: [version:1byte][pointCount:varint]([dLat:zigzag varint][dLon:zigzag varint])*
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LocationPathCodec {
+
+    private static final byte VERSION = 1;
+    private static final double SCALE = 1e7;
+
+    public static byte[] encode(List<RunningRecord.LocationPoint> points) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(points.size() * 4 + 8);
+        out.write(VERSION);
+        writeVarint(out, points.size());
+
+        long prevLat = 0;
+        long prevLon = 0;
+        for (RunningRecord.LocationPoint point : points) {
+            long lat = Math.round(point.getLatitude() * SCALE);
+            long lon = Math.round(point.getLongitude() * SCALE);
+            writeVarint(out, zigzag(lat - prevLat));
+            writeVarint(out, zigzag(lon - prevLon));
+            prevLat = lat;
+            prevLon = lon;
+        }
+        return out.toByteArray();
+    }
+
+    public static List<RunningRecord.LocationPoint> decode(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return new ArrayList<>();
+        }
+        if (encoded[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 경로 인코딩 버전입니다: " + encoded[0]);
+        }
+
+        int[] cursor = {1};
+        int count = (int) readVarint(encoded, cursor);
+        List<RunningRecord.LocationPoint> points = new ArrayList<>(count);
+
+        long lat = 0;
+        long lon = 0;
+        for (int i = 0; i < count; i++) {
+            lat += unzigzag(readVarint(encoded, cursor));
+            lon += unzigzag(readVarint(encoded, cursor));
+            points.add(new RunningRecord.LocationPoint(lat / SCALE, lon / SCALE));
+        }
+        return points;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] buffer, int[] cursor) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            if (cursor[0] >= buffer.length) {
+                throw new IllegalArgumentException("손상된 경로 데이터입니다.");
+            }
+            byte b = buffer[cursor[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package NPJ.Crewer.running;
+
+// 러닝 경로 저장 방식 (running.path.storage 설정값)
+public enum PathStorageMode {
+    ENCODED,            // running_record.encoded_path 컬럼에 압축된 byte[] 하나로 저장
+    ELEMENT_COLLECTION  // running_record_path 테이블에 좌표 한 개당 한 행으로 저장
+}
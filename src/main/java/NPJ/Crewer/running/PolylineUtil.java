@@ -0,0 +1,59 @@
+package NPJ.Crewer.running;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 미리보기용 경로 처리.
+ * 경로를 최대 점 개수로 줄인 뒤 Google Encoded Polyline(정밀도 1e-5) 문자열로 만든다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PolylineUtil {
+
+    public static final int PREVIEW_MAX_POINTS = 64;
+
+    // 미리보기 polyline 생성 (시작점과 끝점은 항상 포함)
+    public static String preview(List<RunningRecord.LocationPoint> points) {
+        return encode(sample(points, PREVIEW_MAX_POINTS));
+    }
+
+    // 균등 간격으로 최대 maxPoints개의 점만 남긴다
+    public static List<RunningRecord.LocationPoint> sample(List<RunningRecord.LocationPoint> points, int maxPoints) {
+        if (points.size() <= maxPoints) {
+            return points;
+        }
+        List<RunningRecord.LocationPoint> sampled = new ArrayList<>(maxPoints);
+        double step = (double) (points.size() - 1) / (maxPoints - 1);
+        for (int i = 0; i < maxPoints; i++) {
+            sampled.add(points.get((int) Math.round(i * step)));
+        }
+        return sampled;
+    }
+
+    public static String encode(List<RunningRecord.LocationPoint> points) {
+        StringBuilder encoded = new StringBuilder();
+        long prevLat = 0;
+        long prevLon = 0;
+        for (RunningRecord.LocationPoint point : points) {
+            long lat = Math.round(point.getLatitude() * 1e5);
+            long lon = Math.round(point.getLongitude() * 1e5);
+            appendValue(encoded, lat - prevLat);
+            appendValue(encoded, lon - prevLon);
+            prevLat = lat;
+            prevLon = lon;
+        }
+        return encoded.toString();
+    }
+
+    private static void appendValue(StringBuilder encoded, long value) {
+        long shifted = value < 0 ? ~(value << 1) : (value << 1);
+        while (shifted >= 0x20) {
+            encoded.append((char) ((0x20 | (shifted & 0x1F)) + 63));
+            shifted >>= 5;
+        }
+        encoded.append((char) (shifted + 63));
+    }
+}
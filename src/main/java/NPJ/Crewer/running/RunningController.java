@@ -5,11 +5,22 @@ import NPJ.Crewer.member.Member;
 import NPJ.Crewer.running.dto.RankingResponseDTO;
 import NPJ.Crewer.running.dto.RunningRecordCreateDTO;
 import NPJ.Crewer.running.dto.RunningRecordResponseDTO;
+import NPJ.Crewer.running.dto.RunningRecordSummaryDTO;
+import NPJ.Crewer.running.dto.LocationPointDTO;
+import NPJ.Crewer.running.dto.RunningSessionFinishDTO;
+import NPJ.Crewer.running.dto.RunningSessionResponseDTO;
 import NPJ.Crewer.running.dto.response.RankingApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +33,7 @@ import java.util.List;
 public class RunningController {
 
     private final RunningService runningService;
+    private final RunningSessionService runningSessionService;
 
     // 달리기 기록 생성
     @PostMapping("/create")
@@ -41,10 +53,75 @@ public class RunningController {
         return ResponseEntity.ok(records);
     }
 
+    // 달리기 기록 목록 (경로 없이 요약 + 미리보기 polyline, 페이징 20개씩)
+    @GetMapping("/history")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<RunningRecordSummaryDTO>> getMyRunningHistory(@AuthenticationPrincipal(expression = "id") Long memberId,
+                                                                             @PageableDefault(size = 20) Pageable pageable) {
+        Page<RunningRecordSummaryDTO> history = runningService.getRunningRecordSummaries(memberId, pageable);
+        return ResponseEntity.ok(history);
+    }
+
+    // 달리기 기록 상세 (전체 경로 포함)
+    @GetMapping("/{recordId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<RunningRecordResponseDTO> getRunningRecord(@PathVariable("recordId") Long recordId,
+                                                                     @AuthenticationPrincipal(expression = "id") Long memberId) {
+        RunningRecordResponseDTO record = runningService.getRunningRecord(recordId, memberId);
+        return ResponseEntity.ok(record);
+    }
+
     @GetMapping("/ranking")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<RankingApiResponse> getRankings(@AuthenticationPrincipal(expression = "id") Long memberId){
         RankingApiResponse rankings = runningService.getRankings(memberId);
         return ResponseEntity.ok(rankings);
     }
-}
\ No newline at end of file
+
+    // 실시간 러닝 세션 시작
+    @PostMapping("/sessions")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<RunningSessionResponseDTO> startSession(@AuthenticationPrincipal(expression = "id") Long memberId) {
+        RunningSessionResponseDTO session = runningSessionService.startSession(memberId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(session);
+    }
+
+    // 실시간 러닝 세션에 GPS 묶음 추가 (HTTP)
+    @PostMapping("/sessions/{sessionId}/points")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<RunningSessionResponseDTO> appendSessionPoints(@PathVariable("sessionId") String sessionId,
+                                                                         @RequestBody List<LocationPointDTO> points,
+                                                                         @AuthenticationPrincipal(expression = "id") Long memberId) {
+        RunningSessionResponseDTO session = runningSessionService.appendPoints(sessionId, memberId, points);
+        return ResponseEntity.ok(session);
+    }
+
+    // 실시간 러닝 세션에 GPS 묶음 추가 (STOMP: /app/running/sessions/{sessionId}/points)
+    @MessageMapping("/running/sessions/{sessionId}/points")
+    public void appendSessionPointsOverStomp(@DestinationVariable String sessionId,
+                                             @Payload List<LocationPointDTO> points,
+                                             StompHeaderAccessor accessor) {
+        // 웹소켓 세션에서 MemberId 가져오기
+        Long memberId = (Long) accessor.getSessionAttributes().get("memberId");
+        runningSessionService.appendPoints(sessionId, memberId, points);
+    }
+
+    // 실시간 러닝 세션 종료 후 기록 저장
+    @PostMapping("/sessions/{sessionId}/finish")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<RunningRecordResponseDTO> finishSession(@PathVariable("sessionId") String sessionId,
+                                                                  @RequestBody(required = false) RunningSessionFinishDTO finishDTO,
+                                                                  @AuthenticationPrincipal(expression = "id") Long memberId) {
+        RunningRecordResponseDTO response = runningSessionService.finishSession(sessionId, memberId, finishDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // 실시간 러닝 세션 취소 (저장하지 않음)
+    @DeleteMapping("/sessions/{sessionId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> cancelSession(@PathVariable("sessionId") String sessionId,
+                                              @AuthenticationPrincipal(expression = "id") Long memberId) {
+        runningSessionService.cancelSession(sessionId, memberId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,276 @@
+package NPJ.Crewer.running;
+
+import NPJ.Crewer.running.dto.response.MyRankingInfo;
+import NPJ.Crewer.running.dto.response.RankingApiResponse;
+import NPJ.Crewer.running.dto.response.RankingInfo;
+import NPJ.Crewer.running.dto.response.RankingResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Redis Sorted Set 기반 러닝 랭킹 보드.
+ * 거리 구간마다 runnerId를 페이스(초/km)로 정렬해 두고, 기록 생성/삭제 시 증분 갱신한다.
+ * 경로로 거리를 검증하지 못한 기록(distanceVerified = false)은 랭킹에 넣지 않는다.
+ * 30일이 지난 기록의 만료와 닉네임 변경 반영은 RunningRankingRefreshScheduler의 재구성이 담당한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RunningLeaderboard {
+
+    private static final String RANKING_KEY_PREFIX = "running-ranking:"; // ZSET: runnerId -> 최고 페이스
+    private static final String ENTRY_KEY_PREFIX = "running-ranking-entry:"; // HASH: runnerId -> 대표 기록(JSON)
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final int TOP_N = 10;
+    public static final Duration RANKING_WINDOW = Duration.ofDays(30);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RunningRepository runningRepository;
+    private final ObjectMapper objectMapper;
+
+    // 새 기록이 해당 구간의 개인 최고 페이스라면 랭킹에 반영
+    public void record(RunningRecord record) {
+        Optional<DistanceCategory> category = DistanceCategory.of(record.getTotalDistance());
+        if (category.isEmpty() || !record.isDistanceVerified()) {
+            return;
+        }
+
+        try {
+            String runnerId = String.valueOf(record.getRunner().getId());
+            double pace = paceOf(record.getTotalSeconds(), record.getTotalDistance());
+            Double currentBest = zSet().score(rankingKey(category.get()), runnerId);
+
+            if (currentBest == null || pace < currentBest) {
+                put(category.get(), Entry.from(record), pace);
+            }
+        } catch (RuntimeException e) {
+            // 랭킹 반영 실패가 기록 저장을 막지 않도록 하고, 주기적 재구성으로 보정한다.
+            log.warn("Failed to update running leaderboard for record {}: {}", record.getId(), e.getMessage());
+        }
+    }
+
+    // 삭제된 기록이 대표 기록이었다면 같은 구간의 차선 기록으로 교체
+    public void remove(RunningRecord record) {
+        Optional<DistanceCategory> category = DistanceCategory.of(record.getTotalDistance());
+        if (category.isEmpty() || !record.isDistanceVerified()) {
+            return;
+        }
+
+        try {
+            Long runnerId = record.getRunner().getId();
+            Entry current = readEntry(category.get(), String.valueOf(runnerId));
+            if (current == null || !current.getRecordId().equals(record.getId())) {
+                return;
+            }
+
+            Optional<RunningRecord> nextBest = runningRepository.findBestRecordInRange(
+                    runnerId,
+                    category.get().getMinDistance(),
+                    category.get().getMaxDistance(),
+                    Instant.now().minus(RANKING_WINDOW));
+
+            if (nextBest.isPresent()) {
+                RunningRecord best = nextBest.get();
+                put(category.get(), Entry.from(best), paceOf(best.getTotalSeconds(), best.getTotalDistance()));
+            } else {
+                zSet().remove(rankingKey(category.get()), String.valueOf(runnerId));
+                hash().delete(entryKey(category.get()), String.valueOf(runnerId));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove record {} from running leaderboard: {}", record.getId(), e.getMessage());
+        }
+    }
+
+    // 구간별 상위 N명과 내 순위를 Sorted Set에서 바로 조회
+    public RankingApiResponse getRankings(Long memberId) {
+        String me = String.valueOf(memberId);
+        List<MyRankingInfo> myRankingsResult = new ArrayList<>();
+        Map<String, List<RankingInfo>> topRankingsResult = new HashMap<>();
+
+        for (DistanceCategory category : DistanceCategory.values()) {
+            String rankingKey = rankingKey(category);
+
+            Long total = zSet().zCard(rankingKey);
+            if (total == null || total == 0) {
+                continue;
+            }
+
+            Set<String> topRunnerIds = zSet().range(rankingKey, 0, TOP_N - 1);
+            List<String> runnerIds = new ArrayList<>(topRunnerIds == null ? Set.of() : topRunnerIds);
+            Long myIndex = zSet().rank(rankingKey, me);
+            if (myIndex != null && myIndex >= TOP_N) {
+                runnerIds.add(me);
+            }
+
+            List<String> rawEntries = hash().multiGet(entryKey(category), runnerIds);
+            List<RankingInfo> topN = new ArrayList<>();
+            for (int i = 0; i < runnerIds.size(); i++) {
+                Entry entry = parse(rawEntries.get(i));
+                if (entry == null) {
+                    continue;
+                }
+                boolean isMine = runnerIds.get(i).equals(me);
+                int ranking = isMine && myIndex != null ? myIndex.intValue() + 1 : i + 1;
+                RankingInfo info = entry.toRankingInfo(category, ranking);
+
+                if (i < TOP_N) {
+                    topN.add(info);
+                }
+                if (isMine) {
+                    myRankingsResult.add(new MyRankingInfo(category.getLabel(), ranking, total.intValue(), info));
+                }
+            }
+            topRankingsResult.put(category.getLabel(), topN);
+        }
+
+        return new RankingApiResponse(myRankingsResult, topRankingsResult);
+    }
+
+    // 최근 30일 기록으로 랭킹 보드 전체를 다시 만든다 (만료 처리 및 드리프트 보정)
+    public void rebuild() {
+        Map<String, List<RankingResponse>> rankingsByCategory = runningRepository.findRankings().stream()
+                .collect(Collectors.groupingBy(RankingResponse::getDistanceCategory));
+
+        for (DistanceCategory category : DistanceCategory.values()) {
+            String rankingKey = rankingKey(category);
+            String entryKey = entryKey(category);
+            List<RankingResponse> rankings = rankingsByCategory.getOrDefault(category.getLabel(), List.of());
+
+            if (rankings.isEmpty()) {
+                redisTemplate.delete(List.of(rankingKey, entryKey));
+                continue;
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            Map<String, String> entries = new HashMap<>();
+            for (RankingResponse ranking : rankings) {
+                String runnerId = String.valueOf(ranking.getRunnerId());
+                tuples.add(new DefaultTypedTuple<>(runnerId, paceOf(ranking.getTotalSeconds(), ranking.getTotalDistance())));
+                entries.put(runnerId, write(Entry.from(ranking)));
+            }
+
+            // 임시 키에 채운 뒤 RENAME으로 교체해 조회 중에 빈 랭킹이 보이지 않게 한다.
+            String tmpRankingKey = rankingKey + REBUILD_SUFFIX;
+            String tmpEntryKey = entryKey + REBUILD_SUFFIX;
+            redisTemplate.delete(List.of(tmpRankingKey, tmpEntryKey));
+            zSet().add(tmpRankingKey, tuples);
+            hash().putAll(tmpEntryKey, entries);
+            redisTemplate.rename(tmpEntryKey, entryKey);
+            redisTemplate.rename(tmpRankingKey, rankingKey);
+        }
+    }
+
+    private void put(DistanceCategory category, Entry entry, double pace) {
+        String runnerId = String.valueOf(entry.getRunnerId());
+        hash().put(entryKey(category), runnerId, write(entry));
+        zSet().add(rankingKey(category), runnerId, pace);
+    }
+
+    private Entry readEntry(DistanceCategory category, String runnerId) {
+        return parse(hash().get(entryKey(category), runnerId));
+    }
+
+    private String write(Entry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("랭킹 기록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private Entry parse(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, Entry.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Malformed running leaderboard entry: {}", json);
+            return null;
+        }
+    }
+
+    // 1km 당 소요 시간(초), 낮을수록 빠름
+    private static double paceOf(double totalSeconds, double totalDistance) {
+        return totalSeconds * 1000.0 / totalDistance;
+    }
+
+    private static String rankingKey(DistanceCategory category) {
+        return RANKING_KEY_PREFIX + category.getLabel();
+    }
+
+    private static String entryKey(DistanceCategory category) {
+        return ENTRY_KEY_PREFIX + category.getLabel();
+    }
+
+    private ZSetOperations<String, String> zSet() {
+        return redisTemplate.opsForZSet();
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return redisTemplate.opsForHash();
+    }
+
+    // 랭킹 응답 구성에 필요한 대표 기록 정보
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private Long recordId;
+        private Long runnerId;
+        private String runnerNickname;
+        private double totalDistance;
+        private int totalSeconds;
+        private long createdAt; // epoch millis
+
+        static Entry from(RunningRecord record) {
+            return new Entry(
+                    record.getId(),
+                    record.getRunner().getId(),
+                    record.getRunner().getNickname(),
+                    record.getTotalDistance(),
+                    record.getTotalSeconds(),
+                    record.getCreatedAt().toEpochMilli()
+            );
+        }
+
+        static Entry from(RankingResponse ranking) {
+            return new Entry(
+                    ranking.getRecordId(),
+                    ranking.getRunnerId(),
+                    ranking.getRunnerNickname(),
+                    ranking.getTotalDistance(),
+                    ranking.getTotalSeconds(),
+                    ranking.getCreatedAt().toEpochMilli()
+            );
+        }
+
+        RankingInfo toRankingInfo(DistanceCategory category, int ranking) {
+            return new RankingInfo(
+                    recordId,
+                    runnerId,
+                    runnerNickname,
+                    totalDistance,
+                    totalSeconds,
+                    Instant.ofEpochMilli(createdAt),
+                    category.getLabel(),
+                    ranking
+            );
+        }
+    }
+}
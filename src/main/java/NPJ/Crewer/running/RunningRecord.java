@@ -34,12 +34,33 @@ public class RunningRecord {
     @Column(updatable = false, nullable = false)
     private double totalDistance; // 총 거리 (미터)
 
+    // 총 거리를 서버가 경로로 재계산했는지 (경로 없이 클라이언트 거리로 저장한 기록은 랭킹 제외)
+    // 컬럼 추가 전 기록은 기존처럼 랭킹 대상이 되도록 기본값 true
+    @Column(name = "distance_verified", nullable = false, updatable = false, columnDefinition = "boolean default true")
+    private boolean distanceVerified;
+
+    // 목록 조회용 미리보기 경로 (PolylineUtil), 저장 시 한 번만 계산
+    @Column(name = "preview_polyline", columnDefinition = "TEXT", updatable = false)
+    private String previewPolyline;
+
+    // 경로 압축 저장 (LocationPathCodec), null이면 running_record_path 테이블에 저장된 기존 방식의 기록
+    @Column(name = "encoded_path", updatable = false)
+    private byte[] encodedPath;
+
     @ElementCollection
     @CollectionTable(name = "running_record_path", joinColumns = @JoinColumn(name = "record_id"))
     @OrderColumn(name = "sequence")
     @Builder.Default
     private List<LocationPoint> path = new ArrayList<>();
 
+    // 저장 방식과 관계없이 경로 좌표를 반환 (압축 경로는 호출 시점에 복원)
+    public List<LocationPoint> getPathPoints() {
+        if (encodedPath != null) {
+            return LocationPathCodec.decode(encodedPath);
+        }
+        return path;
+    }
+
     @Embeddable
     @Getter
     @NoArgsConstructor
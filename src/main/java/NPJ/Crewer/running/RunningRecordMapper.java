@@ -5,41 +5,72 @@ import NPJ.Crewer.member.Member;
 import NPJ.Crewer.running.dto.LocationPointDTO;
 import NPJ.Crewer.running.dto.RunningRecordCreateDTO;
 import NPJ.Crewer.running.dto.RunningRecordResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class RunningRecordMapper {
 
+    private final GpsTraceProcessor gpsTraceProcessor;
+
+    // 경로 저장 방식 (기본값: 압축 저장)
+    @Value("${running.path.storage:ENCODED}")
+    private PathStorageMode pathStorageMode;
+
     // DTO → Entity 변환 메서드 수정
     public RunningRecord toEntity(RunningRecordCreateDTO runningRecordCreateDTO, Member member) {
+        List<RunningRecord.LocationPoint> rawPoints = runningRecordCreateDTO.getPath() == null
+                ? List.of()
+                : runningRecordCreateDTO.getPath().stream()
+                        .map(lpd -> RunningRecord.LocationPoint.builder()
+                                .latitude(lpd.getLatitude())
+                                .longitude(lpd.getLongitude())
+                                .build())
+                        .toList();
+
+        // 튀는 점 제거 + 단순화, 경로가 있으면 총 거리는 서버에서 재계산한 값을 사용
+        // 경로가 없으면(2점 미만, 트레드밀 등) 클라이언트 거리를 그대로 저장하되 검증되지 않은 기록으로 표시 → 랭킹 제외
+        GpsTraceProcessor.ProcessedTrace trace = gpsTraceProcessor.process(rawPoints);
+        List<RunningRecord.LocationPoint> points = trace.getPoints();
+        boolean distanceVerified = rawPoints.size() >= 2;
+        double totalDistance = distanceVerified ? trace.getTotalDistance() : runningRecordCreateDTO.getTotalDistance();
+
+        // 압축 모드에서는 경로 전체를 byte[] 하나로 인코딩해 단일 컬럼으로 저장
+        if (pathStorageMode == PathStorageMode.ENCODED) {
+            return RunningRecord.builder()
+                    .totalDistance(totalDistance)
+                    .distanceVerified(distanceVerified)
+                    .totalSeconds(runningRecordCreateDTO.getTotalSeconds())
+                    .runner(member)
+                    .previewPolyline(PolylineUtil.preview(points))
+                    .encodedPath(LocationPathCodec.encode(points))
+                    .build();
+        }
+
         // 기본 필드만 Builder로 설정
         RunningRecord record = RunningRecord.builder()
-                .totalDistance(runningRecordCreateDTO.getTotalDistance())
+                .totalDistance(totalDistance)
+                .distanceVerified(distanceVerified)
                 .totalSeconds(runningRecordCreateDTO.getTotalSeconds())
                 .runner(member)
+                .previewPolyline(PolylineUtil.preview(points))
                 .build();
 
         // path 필드는 엔티티가 가진 초기화된 컬렉션에 addAll로 추가
-        if (runningRecordCreateDTO.getPath() != null && !runningRecordCreateDTO.getPath().isEmpty()) {
-            List<RunningRecord.LocationPoint> points = runningRecordCreateDTO.getPath().stream()
-                    .map(lpd -> RunningRecord.LocationPoint.builder()
-                            .latitude(lpd.getLatitude())
-                            .longitude(lpd.getLongitude())
-                            .build())
-                    .toList();
-            // 엔티티의 내부 리스트에 추가해야 JPA가 관리 가능한 컬렉션이 됩니다.
-            record.getPath().addAll(points);
-        }
+        // 엔티티의 내부 리스트에 추가해야 JPA가 관리 가능한 컬렉션이 됩니다.
+        record.getPath().addAll(points);
 
         return record;
     }
 
-    // Entity → DTO 변환은 그대로 사용
+    // Entity → DTO 변환 (압축 경로는 이 시점에 복원)
     public RunningRecordResponseDTO toDTO(RunningRecord entity) {
-        List<LocationPointDTO> pathDTO = entity.getPath().stream()
+        List<LocationPointDTO> pathDTO = entity.getPathPoints().stream()
                 .map(p -> new LocationPointDTO(p.getLatitude(), p.getLongitude()))
                 .collect(Collectors.toList());
         return new RunningRecordResponseDTO(
@@ -51,4 +82,4 @@ public class RunningRecordMapper {
                 pathDTO
         );
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,17 @@
 package NPJ.Crewer.running;
 
+import NPJ.Crewer.running.dto.RunningRecordSummaryDTO;
 import NPJ.Crewer.running.dto.response.RankingResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RunningRepository extends JpaRepository<RunningRecord, Long> {
@@ -13,6 +19,34 @@ public interface RunningRepository extends JpaRepository<RunningRecord, Long> {
     //사용자의 러닝 기록을 생성일(createdAt) 기준으로 내림차순 조회
     List<RunningRecord> findAllByRunnerIdOrderByCreatedAtDesc(Long runnerId);
 
+    //경로를 제외한 요약 정보만 최신순으로 페이징 조회
+    @Query(value = "SELECT new NPJ.Crewer.running.dto.RunningRecordSummaryDTO(" +
+            "r.id, r.totalDistance, r.totalSeconds, r.createdAt, r.previewPolyline) " +
+            "FROM RunningRecord r WHERE r.runner.id = :runnerId " +
+            "ORDER BY r.createdAt DESC",
+            countQuery = "SELECT COUNT(r) FROM RunningRecord r WHERE r.runner.id = :runnerId")
+    Page<RunningRecordSummaryDTO> findSummariesByRunnerId(@Param("runnerId") Long runnerId, Pageable pageable);
+
+    //상세 조회 (러너 정보 함께 조회)
+    @Query("SELECT r FROM RunningRecord r JOIN FETCH r.runner WHERE r.id = :recordId")
+    Optional<RunningRecord> findByIdWithRunner(@Param("recordId") Long recordId);
+
+    //해당 거리 구간에서 since 이후 러너의 최고 페이스 기록 조회 (랭킹 보드 갱신용, 경로로 검증된 기록만)
+    @Query("""
+    SELECT r FROM RunningRecord r JOIN FETCH r.runner
+    WHERE r.runner.id = :runnerId
+      AND r.totalDistance >= :minDistance
+      AND r.totalDistance < :maxDistance
+      AND r.createdAt >= :since
+      AND r.distanceVerified = true
+    ORDER BY (r.totalSeconds * 1000.0 / r.totalDistance) ASC
+    LIMIT 1
+    """)
+    Optional<RunningRecord> findBestRecordInRange(@Param("runnerId") Long runnerId,
+                                                  @Param("minDistance") double minDistance,
+                                                  @Param("maxDistance") double maxDistance,
+                                                  @Param("since") Instant since);
+
     @Query(value = """
     WITH distance_categories AS (
         SELECT
@@ -32,7 +66,8 @@ public interface RunningRepository extends JpaRepository<RunningRecord, Long> {
         FROM
             running_record rr
         WHERE
-            rr.created_at >= NOW() - INTERVAL '1 month'
+            rr.created_at >= NOW() - INTERVAL '30 days'
+            AND rr.distance_verified = true
     ),
     user_best_records AS (
         SELECT
@@ -5,21 +5,17 @@ import NPJ.Crewer.member.MemberRepository;
 import NPJ.Crewer.running.dto.RankingResponseDTO;
 import NPJ.Crewer.running.dto.RunningRecordCreateDTO;
 import NPJ.Crewer.running.dto.RunningRecordResponseDTO;
-import NPJ.Crewer.running.dto.response.MyRankingInfo;
+import NPJ.Crewer.running.dto.RunningRecordSummaryDTO;
 import NPJ.Crewer.running.dto.response.RankingApiResponse;
-import NPJ.Crewer.running.dto.response.RankingInfo;
-import NPJ.Crewer.running.dto.response.RankingResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +24,7 @@ public class RunningService {
     private final RunningRepository runningRepository;
     private final MemberRepository memberRepository;
     private final RunningRecordMapper runningRecordMapper;
+    private final RunningLeaderboard runningLeaderboard;
 
     // 러너의 기록 저장
     public RunningRecordResponseDTO createRunningRecord(RunningRecordCreateDTO runningRecordCreateDTO, Long memberId) {
@@ -40,6 +37,7 @@ public class RunningService {
 
         // 3) 저장
         RunningRecord saved = runningRepository.save(record);
+        runningLeaderboard.record(saved);
 
         // 4) Entity → Response DTO 변환
         return runningRecordMapper.toDTO(saved);
@@ -62,6 +60,31 @@ public class RunningService {
                 .toList();
     }
 
+    //해당 러너의 기록 요약을 최신순으로 페이징 조회 (경로 테이블을 읽지 않음)
+    @Transactional(readOnly = true)
+    public Page<RunningRecordSummaryDTO> getRunningRecordSummaries(Long memberId, Pageable pageable) {
+        // 1) 회원 검증
+        if (!memberRepository.existsById(memberId)) {
+            throw new EntityNotFoundException("회원 정보가 없습니다.");
+        }
+
+        // 2) 요약 프로젝션 조회
+        return runningRepository.findSummariesByRunnerId(memberId, pageable);
+    }
+
+    //기록 상세 조회 (전체 경로 포함, 본인만 가능)
+    @Transactional(readOnly = true)
+    public RunningRecordResponseDTO getRunningRecord(Long runningRecordId, Long memberId) {
+        RunningRecord runningRecord = runningRepository.findByIdWithRunner(runningRecordId)
+                .orElseThrow(() -> new IllegalArgumentException("달린 기록을 찾을 수 없습니다."));
+
+        if (!runningRecord.getRunner().getId().equals(memberId)) {
+            throw new AccessDeniedException("본인의 기록만 조회할 수 있습니다.");
+        }
+
+        return runningRecordMapper.toDTO(runningRecord);
+    }
+
     //러너의 기록 삭제 (본인만 가능)
     public void deleteRunningRecord(Long runningRecordId, Long memberId) {
         // 1) 회원 검증
@@ -79,48 +102,12 @@ public class RunningService {
 
         // 4) 삭제
         runningRepository.delete(runningRecord);
+        runningLeaderboard.remove(runningRecord);
     }
 
-    @Transactional(readOnly = true)
+    // 랭킹 조회: Redis 랭킹 보드에서 구간별 상위 N명과 내 순위를 읽음
     public RankingApiResponse getRankings(Long memberId){
-        // 1. DB에서는 인터페이스 기반으로 데이터를 효율적으로 가져옵니다.
-        List<RankingResponse> allRankings = runningRepository.findRankings();
-
-        // 2. 카테고리별로 그룹핑합니다.
-        Map<String, List<RankingResponse>> rankingsByCategory = allRankings.stream()
-                .collect(Collectors.groupingBy(RankingResponse::getDistanceCategory));
-
-        List<MyRankingInfo> myRankingsResult = new ArrayList<>();
-        Map<String, List<RankingInfo>> topRankingsResult = new HashMap<>();
-
-        // 3. 그룹핑된 데이터를 순회하며 DTO 클래스로 변환 및 가공합니다.
-        for (Map.Entry<String, List<RankingResponse>> entry : rankingsByCategory.entrySet()) {
-            String category = entry.getKey();
-            List<RankingResponse> categoryRanks = entry.getValue();
-            int totalRankedCount = categoryRanks.size();
-
-            // '내 랭킹' 찾기 및 DTO 변환
-            categoryRanks.stream()
-                    .filter(rank -> rank.getRunnerId().equals(memberId))
-                    .findFirst()
-                    .ifPresent(myRecord -> {
-                        // 인터페이스(myRecord)를 DTO 클래스(RankingInfo)로 변환
-                        RankingInfo myRecordDto = RankingInfo.from(myRecord);
-                        myRankingsResult.add(
-                                new MyRankingInfo(category, myRecordDto.getRanking(), totalRankedCount, myRecordDto)
-                        );
-                    });
-
-            // '상위 N명' 랭킹 추출 및 DTO 변환
-            List<RankingInfo> topN = categoryRanks.stream()
-                    .limit(10)
-                    // 스트림의 각 인터페이스를 DTO 클래스로 변환
-                    .map(RankingInfo::from)
-                    .collect(Collectors.toList());
-            topRankingsResult.put(category, topN);
-        }
-
-        return new RankingApiResponse(myRankingsResult, topRankingsResult);
+        return runningLeaderboard.getRankings(memberId);
     }
 
 }
\ No newline at end of file
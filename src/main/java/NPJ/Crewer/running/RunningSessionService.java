@@ -0,0 +1,186 @@
+package NPJ.Crewer.running;
+
+import NPJ.Crewer.running.dto.LocationPointDTO;
+import NPJ.Crewer.running.dto.RunningRecordCreateDTO;
+import NPJ.Crewer.running.dto.RunningRecordResponseDTO;
+import NPJ.Crewer.running.dto.RunningSessionFinishDTO;
+import NPJ.Crewer.running.dto.RunningSessionResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 실시간 러닝 세션.
+ * 클라이언트가 몇 초마다 GPS 묶음(batch)을 보내면 Redis 리스트에 압축된 상태로 이어 붙이고,
+ * 종료 시 한 번에 모아 RunningRecord로 저장한다. 요청 하나가 들고 있는 경로는 batch 하나 크기로 제한된다.
+ * 종료는 세션마다 한 번만 처리되도록 먼저 선점하고, 재시도된 종료 요청에는 이미 저장된 기록을 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RunningSessionService {
+
+    private static final String SESSION_KEY_PREFIX = "running-session:"; // HASH: memberId, startedAt, pointCount
+    private static final String POINTS_KEY_PREFIX = "running-session-points:"; // LIST: Base64(LocationPathCodec) batch
+    private static final String FINISH_KEY_PREFIX = "running-session-finish:"; // STRING: 종료 처리 중이면 PENDING, 완료되면 recordId
+    private static final String FINISH_PENDING = "PENDING";
+    private static final Duration FINISH_RESULT_TTL = Duration.ofDays(1); // 종료 재시도에 기존 기록을 돌려주는 기간
+    private static final Duration SESSION_TIMEOUT = Duration.ofHours(6); // 마지막 전송 이후 유지 시간
+    private static final int MAX_POINTS_PER_BATCH = 1_000;
+    private static final int MAX_POINTS_PER_SESSION = 50_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RunningService runningService;
+
+    // 세션 시작
+    public RunningSessionResponseDTO startSession(Long memberId) {
+        String sessionId = UUID.randomUUID().toString();
+        Instant startedAt = Instant.now();
+
+        String sessionKey = SESSION_KEY_PREFIX + sessionId;
+        redisTemplate.opsForHash().putAll(sessionKey, Map.of(
+                "memberId", String.valueOf(memberId),
+                "startedAt", String.valueOf(startedAt.toEpochMilli()),
+                "pointCount", "0"
+        ));
+        redisTemplate.expire(sessionKey, SESSION_TIMEOUT);
+
+        return new RunningSessionResponseDTO(sessionId, startedAt, 0);
+    }
+
+    // GPS 묶음 추가
+    public RunningSessionResponseDTO appendPoints(String sessionId, Long memberId, List<LocationPointDTO> batch) {
+        Map<Object, Object> session = getOwnedSession(sessionId, memberId);
+
+        if (batch == null || batch.isEmpty()) {
+            return toResponse(sessionId, session);
+        }
+        if (batch.size() > MAX_POINTS_PER_BATCH) {
+            throw new IllegalArgumentException("한 번에 전송할 수 있는 좌표는 " + MAX_POINTS_PER_BATCH + "개 이하입니다.");
+        }
+
+        String sessionKey = SESSION_KEY_PREFIX + sessionId;
+        Long pointCount = redisTemplate.opsForHash().increment(sessionKey, "pointCount", batch.size());
+        if (pointCount != null && pointCount > MAX_POINTS_PER_SESSION) {
+            redisTemplate.opsForHash().increment(sessionKey, "pointCount", -batch.size());
+            throw new IllegalStateException("세션에 저장할 수 있는 좌표 수를 초과했습니다.");
+        }
+
+        List<RunningRecord.LocationPoint> points = batch.stream()
+                .map(p -> new RunningRecord.LocationPoint(p.getLatitude(), p.getLongitude()))
+                .toList();
+        String pointsKey = POINTS_KEY_PREFIX + sessionId;
+        redisTemplate.opsForList().rightPush(pointsKey, Base64.getEncoder().encodeToString(LocationPathCodec.encode(points)));
+
+        // 전송이 이어지는 동안 세션 만료 연장
+        redisTemplate.expire(sessionKey, SESSION_TIMEOUT);
+        redisTemplate.expire(pointsKey, SESSION_TIMEOUT);
+
+        return new RunningSessionResponseDTO(sessionId, startedAtOf(session), pointCount == null ? 0 : pointCount.intValue());
+    }
+
+    // 세션 종료 후 RunningRecord로 저장 (같은 세션의 종료 요청이 여러 번 와도 기록은 하나만 생성)
+    public RunningRecordResponseDTO finishSession(String sessionId, Long memberId, RunningSessionFinishDTO finishDTO) {
+        String finishKey = FINISH_KEY_PREFIX + sessionId;
+
+        // 이미 종료된 세션: 저장된 기록을 그대로 반환 (본인 확인은 기록 조회에서)
+        RunningRecordResponseDTO finished = findFinishedRecord(finishKey, memberId);
+        if (finished != null) {
+            return finished;
+        }
+
+        Map<Object, Object> session = getOwnedSession(sessionId, memberId);
+
+        // 종료 처리 선점: 동시에 들어온 종료 요청 중 하나만 기록을 만든다
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(finishKey, FINISH_PENDING, SESSION_TIMEOUT);
+        if (!Boolean.TRUE.equals(claimed)) {
+            finished = findFinishedRecord(finishKey, memberId);
+            if (finished != null) {
+                return finished;
+            }
+            throw new IllegalStateException("이미 종료 처리 중인 러닝 세션입니다.");
+        }
+
+        RunningRecordResponseDTO response;
+        try {
+            response = createRecord(sessionId, memberId, session, finishDTO);
+        } catch (RuntimeException e) {
+            // 저장에 실패하면 다시 종료할 수 있도록 선점 해제
+            redisTemplate.delete(finishKey);
+            throw e;
+        }
+
+        redisTemplate.opsForValue().set(finishKey, String.valueOf(response.getId()), FINISH_RESULT_TTL);
+        redisTemplate.delete(List.of(SESSION_KEY_PREFIX + sessionId, POINTS_KEY_PREFIX + sessionId));
+        return response;
+    }
+
+    private RunningRecordResponseDTO findFinishedRecord(String finishKey, Long memberId) {
+        String recordId = redisTemplate.opsForValue().get(finishKey);
+        if (recordId == null || FINISH_PENDING.equals(recordId)) {
+            return null;
+        }
+        return runningService.getRunningRecord(Long.parseLong(recordId), memberId);
+    }
+
+    private RunningRecordResponseDTO createRecord(String sessionId, Long memberId, Map<Object, Object> session,
+                                                  RunningSessionFinishDTO finishDTO) {
+        String pointsKey = POINTS_KEY_PREFIX + sessionId;
+
+        List<String> batches = redisTemplate.opsForList().range(pointsKey, 0, -1);
+        List<LocationPointDTO> path = new ArrayList<>();
+        if (batches != null) {
+            for (String batch : batches) {
+                for (RunningRecord.LocationPoint point : LocationPathCodec.decode(Base64.getDecoder().decode(batch))) {
+                    path.add(new LocationPointDTO(point.getLatitude(), point.getLongitude()));
+                }
+            }
+        }
+
+        // 일시정지 시간을 반영한 값은 클라이언트가 보내고, 없으면 세션 경과 시간을 사용
+        int totalSeconds = finishDTO != null && finishDTO.getTotalSeconds() != null
+                ? finishDTO.getTotalSeconds()
+                : (int) Duration.between(startedAtOf(session), Instant.now()).getSeconds();
+
+        RunningRecordCreateDTO createDTO = RunningRecordCreateDTO.builder()
+                .totalSeconds(totalSeconds)
+                .totalDistance(finishDTO != null && finishDTO.getTotalDistance() != null ? finishDTO.getTotalDistance() : 0)
+                .path(path)
+                .build();
+
+        return runningService.createRunningRecord(createDTO, memberId);
+    }
+
+    // 저장하지 않고 세션 폐기
+    public void cancelSession(String sessionId, Long memberId) {
+        getOwnedSession(sessionId, memberId);
+        redisTemplate.delete(List.of(SESSION_KEY_PREFIX + sessionId, POINTS_KEY_PREFIX + sessionId));
+    }
+
+    private Map<Object, Object> getOwnedSession(String sessionId, Long memberId) {
+        Map<Object, Object> session = redisTemplate.opsForHash().entries(SESSION_KEY_PREFIX + sessionId);
+        if (session.isEmpty()) {
+            throw new IllegalArgumentException("러닝 세션을 찾을 수 없습니다.");
+        }
+        if (!String.valueOf(memberId).equals(session.get("memberId"))) {
+            throw new AccessDeniedException("본인의 러닝 세션만 사용할 수 있습니다.");
+        }
+        return session;
+    }
+
+    private RunningSessionResponseDTO toResponse(String sessionId, Map<Object, Object> session) {
+        return new RunningSessionResponseDTO(sessionId, startedAtOf(session), Integer.parseInt((String) session.get("pointCount")));
+    }
+
+    private Instant startedAtOf(Map<Object, Object> session) {
+        return Instant.ofEpochMilli(Long.parseLong((String) session.get("startedAt")));
+    }
+}
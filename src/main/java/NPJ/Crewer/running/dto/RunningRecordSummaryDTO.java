@@ -0,0 +1,26 @@
+package NPJ.Crewer.running.dto;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 러닝 기록 목록용 요약 정보 (전체 경로 대신 미리보기 polyline만 포함)
+@Getter
+public class RunningRecordSummaryDTO {
+    private final Long id;
+    private final double totalDistance;  // 미터
+    private final int totalSeconds;
+    private final double pace;           // 1km 당 소요 시간(초)
+    private final Instant createdAt;
+    private final String previewPolyline; // Google Encoded Polyline
+
+    // JPQL DTO 프로젝션용 생성자
+    public RunningRecordSummaryDTO(Long id, double totalDistance, int totalSeconds, Instant createdAt, String previewPolyline) {
+        this.id = id;
+        this.totalDistance = totalDistance;
+        this.totalSeconds = totalSeconds;
+        this.pace = totalDistance > 0 ? totalSeconds * 1000.0 / totalDistance : 0;
+        this.createdAt = createdAt;
+        this.previewPolyline = previewPolyline;
+    }
+}
@@ -0,0 +1,11 @@
+package NPJ.Crewer.running.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RunningSessionFinishDTO {
+    private Integer totalSeconds;   // 일시정지를 제외한 총 시간 (없으면 세션 경과 시간)
+    private Double totalDistance;   // 경로가 없을 때만 사용 (미터)
+}
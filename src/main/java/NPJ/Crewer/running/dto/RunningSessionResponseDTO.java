@@ -0,0 +1,14 @@
+package NPJ.Crewer.running.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class RunningSessionResponseDTO {
+    private String sessionId;
+    private Instant startedAt;
+    private int pointCount; // 지금까지 수신한 좌표 수
+}
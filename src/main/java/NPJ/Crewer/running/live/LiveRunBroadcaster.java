@@ -0,0 +1,116 @@
+package NPJ.Crewer.running.live;
+
+import NPJ.Crewer.running.live.dto.LiveRunFrameDTO;
+import NPJ.Crewer.running.live.dto.LiveRunPositionDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹 러닝 실시간 위치 브로드캐스터.
+ * 수신한 위치는 방별로 참가자당 최신 값 하나만 보관하고, 고정된 틱마다 방 하나당 프레임 하나로 묶어 전송한다.
+ * 러너 N명 × 구독자 M명이 위치를 보낼 때마다 fan-out 하던 것을 틱당 방 하나의 fan-out으로 줄인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveRunBroadcaster {
+
+    private static final String TOPIC_PREFIX = "/topic/run/";
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5); // 이 시간 동안 위치가 없으면 방에서 제외
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // chatRoomId -> (memberId -> 최신 위치)
+    private final Map<UUID, Map<Long, LiveRunPositionDTO>> latestPositions = new ConcurrentHashMap<>();
+    // 직전 틱 이후 위치가 갱신된 참가자
+    private final Map<UUID, Map<Long, Boolean>> dirtyMembers = new ConcurrentHashMap<>();
+    // 직전 틱 이후 종료/제외되어 구독자 지도에서 지워야 하는 참가자
+    private final Map<UUID, Map<Long, Boolean>> departedMembers = new ConcurrentHashMap<>();
+
+    public void update(UUID chatRoomId, Long memberId, double latitude, double longitude) {
+        LiveRunPositionDTO position = new LiveRunPositionDTO(memberId, latitude, longitude, Instant.now());
+        latestPositions.computeIfAbsent(chatRoomId, id -> new ConcurrentHashMap<>()).put(memberId, position);
+        dirtyMembers.computeIfAbsent(chatRoomId, id -> new ConcurrentHashMap<>()).put(memberId, Boolean.TRUE);
+        Map<Long, Boolean> departed = departedMembers.get(chatRoomId);
+        if (departed != null) {
+            departed.remove(memberId);
+        }
+    }
+
+    public void leave(UUID chatRoomId, Long memberId) {
+        Map<Long, LiveRunPositionDTO> positions = latestPositions.get(chatRoomId);
+        if (positions == null || positions.remove(memberId) == null) {
+            return;
+        }
+        Map<Long, Boolean> dirty = dirtyMembers.get(chatRoomId);
+        if (dirty != null) {
+            dirty.remove(memberId);
+        }
+        departedMembers.computeIfAbsent(chatRoomId, id -> new ConcurrentHashMap<>()).put(memberId, Boolean.TRUE);
+    }
+
+    // 기본 2Hz
+    @Scheduled(fixedRateString = "${running.live.tick-millis:500}")
+    public void flush() {
+        Instant now = Instant.now();
+        // 이번 틱에 제외된 참가자도 같은 프레임의 removed로 바로 알림
+        evictIdle(now);
+
+        Set<UUID> chatRoomIds = new HashSet<>(dirtyMembers.keySet());
+        chatRoomIds.addAll(departedMembers.keySet());
+        for (UUID chatRoomId : chatRoomIds) {
+            List<LiveRunPositionDTO> changed = new ArrayList<>();
+            Map<Long, Boolean> dirty = dirtyMembers.get(chatRoomId);
+            Map<Long, LiveRunPositionDTO> positions = latestPositions.get(chatRoomId);
+            if (dirty != null) {
+                for (Long memberId : dirty.keySet()) {
+                    dirty.remove(memberId);
+                    LiveRunPositionDTO position = positions != null ? positions.get(memberId) : null;
+                    if (position != null) {
+                        changed.add(position);
+                    }
+                }
+            }
+
+            List<Long> removed = new ArrayList<>();
+            Map<Long, Boolean> departed = departedMembers.remove(chatRoomId);
+            if (departed != null) {
+                removed.addAll(departed.keySet());
+            }
+
+            if (!changed.isEmpty() || !removed.isEmpty()) {
+                messagingTemplate.convertAndSend(TOPIC_PREFIX + chatRoomId,
+                        new LiveRunFrameDTO(chatRoomId, now, changed, removed));
+            }
+        }
+    }
+
+    private void evictIdle(Instant now) {
+        Instant threshold = now.minus(IDLE_TIMEOUT);
+        latestPositions.forEach((chatRoomId, positions) -> {
+            positions.values().removeIf(position -> {
+                if (!position.getTimestamp().isBefore(threshold)) {
+                    return false;
+                }
+                departedMembers.computeIfAbsent(chatRoomId, id -> new ConcurrentHashMap<>())
+                        .put(position.getMemberId(), Boolean.TRUE);
+                return true;
+            });
+            if (positions.isEmpty()) {
+                latestPositions.remove(chatRoomId, positions);
+                dirtyMembers.remove(chatRoomId);
+            }
+        });
+    }
+}
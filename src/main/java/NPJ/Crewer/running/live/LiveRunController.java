@@ -0,0 +1,48 @@
+package NPJ.Crewer.running.live;
+
+import NPJ.Crewer.chat.ChatSessionContext;
+import NPJ.Crewer.chat.ChatSessionRegistry;
+import NPJ.Crewer.running.dto.LocationPointDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+import java.util.UUID;
+
+@Controller
+@RequiredArgsConstructor
+public class LiveRunController {
+
+    private final LiveRunBroadcaster liveRunBroadcaster;
+    private final ChatSessionRegistry chatSessionRegistry;
+
+    // 그룹 러닝 위치 전송 (구독: /topic/run/{chatRoomId})
+    @MessageMapping("/run/{chatRoomId}/location")
+    public void updateLocation(@DestinationVariable String chatRoomId,
+                               @Payload LocationPointDTO location,
+                               StompHeaderAccessor accessor) {
+        UUID roomId = UUID.fromString(chatRoomId);
+        Long memberId = checkParticipant(roomId, accessor);
+
+        liveRunBroadcaster.update(roomId, memberId, location.getLatitude(), location.getLongitude());
+    }
+
+    // 그룹 러닝 종료 (다른 참가자 지도에서 제외)
+    @MessageMapping("/run/{chatRoomId}/leave")
+    public void leave(@DestinationVariable String chatRoomId, StompHeaderAccessor accessor) {
+        UUID roomId = UUID.fromString(chatRoomId);
+        Long memberId = checkParticipant(roomId, accessor);
+
+        liveRunBroadcaster.leave(roomId, memberId);
+    }
+
+    // 채팅방 참여 여부는 CONNECT 시 캐시한 세션 컨텍스트로 확인 (새로 참여한 방만 한 번 DB 확인)
+    private Long checkParticipant(UUID chatRoomId, StompHeaderAccessor accessor) {
+        ChatSessionContext context = chatSessionRegistry.getContext(accessor.getSessionAttributes());
+        chatSessionRegistry.checkRoomAccess(context, chatRoomId);
+        return context.getMemberId();
+    }
+}
@@ -0,0 +1,18 @@
+package NPJ.Crewer.running.live.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// /topic/run/{chatRoomId} 로 한 틱마다 한 번 전송되는 위치 묶음
+@Getter
+@AllArgsConstructor
+public class LiveRunFrameDTO {
+    private UUID chatRoomId;
+    private Instant sentAt;
+    private List<LiveRunPositionDTO> positions; // 직전 틱 이후 위치가 갱신된 참가자만 포함
+    private List<Long> removedMemberIds; // 직전 틱 이후 러닝을 종료했거나 오래 위치가 없어 제외된 참가자 (지도에서 제거)
+}
@@ -0,0 +1,16 @@
+package NPJ.Crewer.running.live.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 그룹 러닝 참가자 한 명의 최신 위치
+@Getter
+@AllArgsConstructor
+public class LiveRunPositionDTO {
+    private Long memberId;
+    private double latitude;
+    private double longitude;
+    private Instant timestamp; // 서버 수신 시각
+}
@@ -0,0 +1,41 @@
+package NPJ.Crewer.scheduler;
+
+import NPJ.Crewer.chat.chatmessage.ChatMessageArchiveService;
+import NPJ.Crewer.chat.chatmessage.ChatMessagePartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchiveScheduler {
+
+    private final ChatMessagePartitionManager chatMessagePartitionManager;
+    private final ChatMessageArchiveService chatMessageArchiveService;
+
+    // 서버 기동 시 파티션 테이블 전환 및 앞으로 쓸 월 파티션 준비
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparePartitions() {
+        try {
+            chatMessagePartitionManager.ensurePartitions();
+        } catch (Exception e) {
+            log.error("Failed to prepare chat message partitions: {}", e.getMessage(), e);
+        }
+    }
+
+    // 매일 새벽 3시 30분: 다음 달 파티션 준비 후 보관 기간이 지난 파티션을 압축 보관소로 이동
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void archiveOldMessages() {
+        try {
+            chatMessagePartitionManager.ensurePartitions();
+            int archived = chatMessageArchiveService.archiveExpiredPartitions();
+            log.info("Chat message archive completed ({} partitions archived)", archived);
+        } catch (Exception e) {
+            log.error("Failed to archive chat messages: {}", e.getMessage(), e);
+        }
+    }
+}
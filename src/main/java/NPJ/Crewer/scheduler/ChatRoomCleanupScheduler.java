@@ -0,0 +1,28 @@
+package NPJ.Crewer.scheduler;
+
+import NPJ.Crewer.chat.chatroom.ChatRoomTeardownService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomCleanupScheduler {
+
+    private final ChatRoomTeardownService chatRoomTeardownService;
+
+    // 매시 15분: 서버 재시작 등으로 삭제가 끝나지 못한 빈 채팅방 정리
+    @Scheduled(cron = "0 15 * * * ?")
+    public void cleanupOrphanRooms() {
+        try {
+            int scheduled = chatRoomTeardownService.sweepOrphanRooms();
+            if (scheduled > 0) {
+                log.info("Scheduled teardown of {} orphan chat rooms", scheduled);
+            }
+        } catch (Exception e) {
+            log.error("Failed to sweep orphan chat rooms: {}", e.getMessage(), e);
+        }
+    }
+}
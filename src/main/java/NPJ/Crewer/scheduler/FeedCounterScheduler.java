@@ -0,0 +1,34 @@
+package NPJ.Crewer.scheduler;
+
+import NPJ.Crewer.feeds.FeedCounterReconciler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedCounterScheduler {
+
+    private final FeedCounterReconciler feedCounterReconciler;
+
+    // 서버 기동 시 보정 (컬럼이 새로 추가된 경우 기존 좋아요/댓글 수 채우기)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcileCounters();
+    }
+
+    // 매일 새벽 4시: 좋아요/댓글 수 보정
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void reconcileCounters() {
+        try {
+            int fixed = feedCounterReconciler.reconcile();
+            log.info("Feed counter reconciliation completed ({} rows fixed)", fixed);
+        } catch (Exception e) {
+            log.error("Failed to reconcile feed counters: {}", e.getMessage(), e);
+        }
+    }
+}
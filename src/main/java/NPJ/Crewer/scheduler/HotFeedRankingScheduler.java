@@ -0,0 +1,37 @@
+package NPJ.Crewer.scheduler;
+
+import NPJ.Crewer.feeds.FeedBoard;
+import NPJ.Crewer.feeds.HotFeedRanking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotFeedRankingScheduler {
+
+    private final HotFeedRanking hotFeedRanking;
+
+    // 서버 기동 시 인기 피드 순위 초기 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeRankings() {
+        refreshRankings();
+    }
+
+    // 매시 10분: 윈도우를 벗어난 피드를 제외하고 감쇠 기준 시각을 옮겨 순위 재구성
+    @Scheduled(cron = "0 10 * * * ?")
+    public void refreshRankings() {
+        for (FeedBoard board : FeedBoard.values()) {
+            try {
+                hotFeedRanking.rebuild(board);
+                log.info("Hot feed ranking rebuild completed ({})", board);
+            } catch (Exception e) {
+                log.error("Failed to rebuild hot feed ranking ({}): {}", board, e.getMessage(), e);
+            }
+        }
+    }
+}
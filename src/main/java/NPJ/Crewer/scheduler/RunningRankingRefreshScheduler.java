@@ -0,0 +1,34 @@
+package NPJ.Crewer.scheduler;
+
+import NPJ.Crewer.running.RunningLeaderboard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RunningRankingRefreshScheduler {
+
+    private final RunningLeaderboard runningLeaderboard;
+
+    // 서버 기동 시 랭킹 보드 초기 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeRankings() {
+        refreshRankings();
+    }
+
+    // 매시 정각에 30일 윈도우를 벗어난 기록을 제외하고 랭킹 보드 재구성
+    @Scheduled(cron = "0 0 * * * ?")
+    public void refreshRankings() {
+        try {
+            runningLeaderboard.rebuild();
+            log.info("Running leaderboard rebuild completed");
+        } catch (Exception e) {
+            log.error("Failed to rebuild running leaderboard: {}", e.getMessage(), e);
+        }
+    }
+}
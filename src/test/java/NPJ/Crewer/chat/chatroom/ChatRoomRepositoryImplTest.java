@@ -0,0 +1,161 @@
+package NPJ.Crewer.chat.chatroom;
+
+import NPJ.Crewer.chat.chatmessage.ChatMessage;
+import NPJ.Crewer.chat.chatmessage.ChatMessageRepository;
+import NPJ.Crewer.chat.chatparticipant.ChatParticipant;
+import NPJ.Crewer.chat.chatparticipant.ChatParticipantRepository;
+import NPJ.Crewer.chat.chatroom.dto.ChatRoomResponseDTO;
+import NPJ.Crewer.config.QuerydslConfig;
+import NPJ.Crewer.member.Member;
+import NPJ.Crewer.member.MemberRole;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 참여 중인 그룹 채팅방 200개 목록 조회: 기존 방식(방마다 지연 로딩 + 마지막 메시지 조회)과 실행 SQL 수 비교
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chatroom;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, ChatRoomRepositoryImpl.class})
+class ChatRoomRepositoryImplTest {
+
+    private static final int ROOM_COUNT = 200;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatRoomRepositoryImpl chatRoomRepositoryImpl;
+
+    private Statistics statistics;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = new Member("runner", "password", "러너", MemberRole.USER);
+        entityManager.persist(member);
+        memberId = member.getId();
+        // 메시지는 상대 크루원이 보냄 (내가 보낸 메시지는 안 읽은 수에 포함되지 않음)
+        Member sender = new Member("crew", "password", "크루원", MemberRole.USER);
+        entityManager.persist(sender);
+
+        long messageId = 1;
+        Instant sentAt = Instant.parse("2025-01-01T00:00:00Z");
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            ChatRoom chatRoom = ChatRoom.builder()
+                    .name("크루 " + i)
+                    .maxParticipants(10)
+                    .currentParticipants(1)
+                    .type(ChatRoom.ChatRoomType.GROUP)
+                    .build();
+            entityManager.persist(chatRoom);
+            entityManager.persist(ChatParticipant.builder().chatRoom(chatRoom).member(member).build());
+            entityManager.flush();
+
+            // write-behind 저장과 같이 SQL로 메시지를 넣고 채팅방의 마지막 메시지 컬럼을 갱신
+            for (int j = 0; j < 2; j++) {
+                long id = messageId++;
+                sentAt = sentAt.plusSeconds(1);
+                String content = "메시지 " + i + "-" + j;
+                entityManager.createNativeQuery("INSERT INTO chat_message (id, chat_room_id, sender_id, content, type, timestamp) " +
+                                "VALUES (?1, ?2, ?3, ?4, ?5, ?6)")
+                        .setParameter(1, id)
+                        .setParameter(2, chatRoom.getId())
+                        .setParameter(3, sender.getId())
+                        .setParameter(4, content)
+                        .setParameter(5, ChatMessage.MessageType.TEXT.name())
+                        .setParameter(6, Timestamp.from(sentAt))
+                        .executeUpdate();
+                entityManager.createNativeQuery("UPDATE chat_room SET last_message_id = ?1, last_message_at = ?2, " +
+                                "last_message_preview = ?3, last_message_type = ?4 WHERE id = ?5")
+                        .setParameter(1, id)
+                        .setParameter(2, Timestamp.from(sentAt))
+                        .setParameter(3, content)
+                        .setParameter(4, ChatMessage.MessageType.TEXT.name())
+                        .setParameter(5, chatRoom.getId())
+                        .executeUpdate();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void loadsTwoHundredRoomsInOneStatement() {
+        statistics.clear();
+        List<ChatRoomResponseDTO> legacy = legacyGroupChatRoomList(memberId);
+        long legacyStatements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        List<ChatRoomResponseDTO> rooms = chatRoomRepositoryImpl.findGroupChatRoomsWithLastMessage(memberId);
+        long statements = statistics.getPrepareStatementCount();
+
+        // 기존: 참여 목록 1 + 방 지연 로딩 N + 마지막 메시지 N
+        assertThat(legacyStatements).isEqualTo(1 + 2L * ROOM_COUNT);
+        assertThat(statements).isEqualTo(1);
+
+        // 같은 마지막 메시지를 돌려줌
+        assertThat(rooms).hasSize(ROOM_COUNT);
+        Map<UUID, ChatRoomResponseDTO> legacyById = legacy.stream()
+                .collect(Collectors.toMap(ChatRoomResponseDTO::getId, Function.identity()));
+        for (ChatRoomResponseDTO room : rooms) {
+            ChatRoomResponseDTO expected = legacyById.get(room.getId());
+            assertThat(expected).isNotNull();
+            assertThat(room.getName()).isEqualTo(expected.getName());
+            assertThat(room.getLastContent()).isEqualTo(expected.getLastContent());
+            assertThat(room.getLastType()).isEqualTo(expected.getLastType());
+            assertThat(room.getLastSendAt()).isEqualTo(expected.getLastSendAt());
+            assertThat(room.getUnreadCount()).isEqualTo(2);
+        }
+    }
+
+    // 변경 전 ChatService.getGroupChatRoomList의 조회 방식
+    private List<ChatRoomResponseDTO> legacyGroupChatRoomList(Long memberId) {
+        return chatParticipantRepository.findByMemberId(memberId).stream()
+                .map(ChatParticipant::getChatRoom)
+                .filter(chatRoom -> chatRoom.getType() == ChatRoom.ChatRoomType.GROUP)
+                .distinct()
+                .map(chatRoom -> {
+                    ChatMessage lastMessage = chatMessageRepository.findTopByChatRoomIdOrderByTimestampAtDesc(chatRoom.getId());
+                    return ChatRoomResponseDTO.builder()
+                            .id(chatRoom.getId())
+                            .name(chatRoom.getName())
+                            .maxParticipants(chatRoom.getMaxParticipants())
+                            .currentParticipants(chatRoom.getCurrentParticipants())
+                            .type(chatRoom.getType())
+                            .lastSendAt(lastMessage != null ? lastMessage.getTimestamp() : null)
+                            .lastContent(lastMessage != null ? lastMessage.getContent() : null)
+                            .lastType(lastMessage != null ? lastMessage.getType() : null)
+                            .build();
+                })
+                .toList();
+    }
+}
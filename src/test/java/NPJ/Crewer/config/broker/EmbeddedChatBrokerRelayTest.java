@@ -0,0 +1,131 @@
+package NPJ.Crewer.config.broker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 JVM의 두 인스턴스를 embedded 중계로 묶어 /topic 메시지가 다른 인스턴스의 브로커로 전달되는지 확인
+class EmbeddedChatBrokerRelayTest {
+
+    private Node first;
+    private Node second;
+
+    @BeforeEach
+    void setUp() {
+        first = new Node();
+        second = new Node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.relay.leave();
+        second.relay.leave();
+    }
+
+    @Test
+    void topicMessagePublishedOnOneNodeIsDeliveredOnTheOther() {
+        byte[] payload = "{\"content\":\"안녕\"}".getBytes(StandardCharsets.UTF_8);
+
+        first.sendToBroker(topicMessage("/topic/chat/room-1", payload));
+
+        // 발행한 인스턴스는 자기 브로커로 원본 한 번만 받고, 중계된 사본은 다시 받지 않음
+        assertThat(first.brokerMessages).hasSize(1);
+        assertThat(second.brokerMessages).hasSize(1);
+
+        Message<?> delivered = second.brokerMessages.get(0);
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(delivered);
+        assertThat(accessor.getMessageType()).isEqualTo(SimpMessageType.MESSAGE);
+        assertThat(accessor.getDestination()).isEqualTo("/topic/chat/room-1");
+        assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat((byte[]) delivered.getPayload()).isEqualTo(payload);
+    }
+
+    @Test
+    void relayedMessageIsNotRepublished() {
+        first.sendToBroker(topicMessage("/topic/chat/room-1", new byte[]{1}));
+        second.sendToBroker(topicMessage("/topic/chat/room-2", new byte[]{2}));
+
+        // 각 인스턴스: 자기 메시지 1건 + 상대 메시지 1건 (중계받은 메시지가 되돌아오는 루프 없음)
+        assertThat(first.brokerMessages).hasSize(2);
+        assertThat(second.brokerMessages).hasSize(2);
+    }
+
+    @Test
+    void nonTopicMessageIsNotRelayed() {
+        first.sendToBroker(topicMessage("/queue/errors", new byte[]{1}));
+
+        assertThat(first.brokerMessages).hasSize(1);
+        assertThat(second.brokerMessages).isEmpty();
+    }
+
+    @Test
+    void controlMessageIsPublishedAsEventInsteadOfBrokerMessage() {
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        first.interceptor.publishControl("/internal/chat-session", payload);
+
+        assertThat(second.brokerMessages).isEmpty();
+        assertThat(second.events).singleElement().isInstanceOfSatisfying(BrokerControlMessageEvent.class, event -> {
+            assertThat(event.getDestination()).isEqualTo("/internal/chat-session");
+            assertThat(event.getPayload()).isEqualTo(payload);
+        });
+        assertThat(first.events).isEmpty();
+    }
+
+    @Test
+    void leftNodeNoLongerReceives() {
+        second.relay.leave();
+
+        first.sendToBroker(topicMessage("/topic/chat/room-1", new byte[]{1}));
+
+        assertThat(second.brokerMessages).isEmpty();
+    }
+
+    private static Message<byte[]> topicMessage(String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    // 한 애플리케이션 인스턴스의 brokerChannel + 인터셉터 + embedded 중계
+    private static final class Node {
+
+        private final List<Message<?>> brokerMessages = new CopyOnWriteArrayList<>();
+        private final List<Object> events = new CopyOnWriteArrayList<>();
+        private final BrokerRelayInterceptor interceptor;
+        private final EmbeddedChatBrokerRelay relay;
+
+        private Node() {
+            StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+            // brokerChannel: 인터셉터를 거친 뒤 SimpleBroker에 도달한 메시지를 기록
+            interceptor = new BrokerRelayInterceptor(
+                    beanFactory.getBeanProvider(ChatBrokerRelay.class),
+                    (message, timeout) -> sendToBroker(message),
+                    events::add);
+            relay = new EmbeddedChatBrokerRelay(interceptor);
+            beanFactory.addBean("embeddedChatBrokerRelay", relay);
+            relay.join();
+        }
+
+        private boolean sendToBroker(Message<?> message) {
+            Message<?> intercepted = interceptor.preSend(message, null);
+            if (intercepted != null) {
+                brokerMessages.add(intercepted);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package NPJ.Crewer.running;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GpsTraceProcessorTest {
+
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * 6_371_008.8;
+    private static final double BASE_LAT = 37.5665;
+    private static final double BASE_LNG = 126.9780;
+
+    private GpsTraceProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new GpsTraceProcessor();
+        ReflectionTestUtils.setField(processor, "maxJumpMeters", 50.0);
+        ReflectionTestUtils.setField(processor, "simplifyToleranceMeters", 3.0);
+    }
+
+    @Test
+    void haversineMatchesKnownDistances() {
+        RunningRecord.LocationPoint origin = point(0, 0);
+
+        // 적도/자오선 위 1도 = πR/180
+        assertThat(GpsTraceProcessor.haversine(origin, point(1, 0))).isCloseTo(METERS_PER_DEGREE, within(0.01));
+        assertThat(GpsTraceProcessor.haversine(origin, point(0, 1))).isCloseTo(METERS_PER_DEGREE, within(0.01));
+        assertThat(GpsTraceProcessor.haversine(origin, origin)).isZero();
+
+        // 서울시청 → 강남역 약 8.8km, 방향과 무관
+        RunningRecord.LocationPoint cityHall = point(37.5663, 126.9779);
+        RunningRecord.LocationPoint gangnam = point(37.4979, 127.0276);
+        assertThat(GpsTraceProcessor.haversine(cityHall, gangnam)).isCloseTo(8_800, within(100.0));
+        assertThat(GpsTraceProcessor.haversine(gangnam, cityHall))
+                .isEqualTo(GpsTraceProcessor.haversine(cityHall, gangnam));
+    }
+
+    @Test
+    void removesSingleSpikeButKeepsRealTurns() {
+        // 10m 간격 직선 100m 중 한 점이 옆으로 200m 튐
+        List<RunningRecord.LocationPoint> points = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            points.add(offset(i * 10, i == 5 ? 200 : 0));
+        }
+
+        List<RunningRecord.LocationPoint> cleaned = processor.removeOutliers(points);
+
+        assertThat(cleaned).hasSize(10).doesNotContain(points.get(5));
+        assertThat(GpsTraceProcessor.totalDistance(cleaned)).isCloseTo(100, within(0.5));
+
+        // 앞뒤 점끼리도 먼 구간(실제 이동)은 지우지 않음
+        List<RunningRecord.LocationPoint> turn = List.of(offset(0, 0), offset(60, 0), offset(60, 60));
+        assertThat(processor.removeOutliers(turn)).containsExactlyElementsOf(turn);
+    }
+
+    @Test
+    void douglasPeuckerStaysWithinTolerance() {
+        // 동쪽으로 500m 간 뒤 북쪽으로 500m, 1m 이내 흔들림 포함
+        Random random = new Random(42);
+        List<RunningRecord.LocationPoint> points = new ArrayList<>();
+        for (int i = 0; i <= 100; i++) {
+            points.add(offset(i * 5, random.nextDouble() - 0.5));
+        }
+        for (int i = 1; i <= 100; i++) {
+            points.add(offset(500 + random.nextDouble() - 0.5, i * 5));
+        }
+
+        List<RunningRecord.LocationPoint> simplified = processor.simplify(points, 3);
+
+        // 흔들림은 허용 오차 안이므로 시작/모퉁이/끝 정도만 남음
+        assertThat(simplified.size()).isBetween(3, 6);
+        assertThat(simplified.get(0)).isEqualTo(points.get(0));
+        assertThat(simplified.get(simplified.size() - 1)).isEqualTo(points.get(points.size() - 1));
+        for (RunningRecord.LocationPoint original : points) {
+            assertThat(distanceToPolyline(original, simplified)).isLessThanOrEqualTo(3.0 + 1e-6);
+        }
+
+        // 허용 오차가 0에 가까우면 흔들림도 모두 유지
+        assertThat(processor.simplify(points, 0.001)).hasSizeGreaterThan(simplified.size() * 10);
+    }
+
+    @Test
+    void processRecomputesDistanceFromCleanedTrace() {
+        List<RunningRecord.LocationPoint> points = new ArrayList<>();
+        for (int i = 0; i <= 100; i++) {
+            points.add(offset(i * 10, i == 50 ? 300 : 0));
+        }
+
+        GpsTraceProcessor.ProcessedTrace trace = processor.process(points);
+
+        assertThat(trace.getTotalDistance()).isCloseTo(1_000, within(1.0));
+        assertThat(trace.getPoints()).hasSize(2);
+    }
+
+    // 10,000점 경로: 튀는 점을 제거하고 단순화해 점 수를 크게 줄이면서 거리는 실제 이동 거리에 가깝게 유지
+    @Test
+    void simplifiesTenThousandPointTrace() {
+        List<RunningRecord.LocationPoint> trace = generatedTrace(10_000, 7);
+
+        GpsTraceProcessor.ProcessedTrace result = processor.process(trace);
+
+        assertThat(result.getPoints().size()).isLessThan(trace.size() / 5);
+        // 실제 이동 거리 3m × 9,999 구간에 1m 흔들림이 더해진 값 (150m 튀는 점이 남으면 크게 늘어남)
+        assertThat(result.getTotalDistance()).isBetween(30_000.0, 36_000.0);
+    }
+
+    // 3m/s로 방향을 조금씩 바꾸며 달리는 경로, 1m 흔들림과 1% 확률의 튀는 점 포함
+    private static List<RunningRecord.LocationPoint> generatedTrace(int size, long seed) {
+        Random random = new Random(seed);
+        List<RunningRecord.LocationPoint> points = new ArrayList<>(size);
+        double x = 0;
+        double y = 0;
+        double heading = 0;
+        for (int i = 0; i < size; i++) {
+            heading += (random.nextDouble() - 0.5) * 0.2;
+            x += Math.cos(heading) * 3;
+            y += Math.sin(heading) * 3;
+            double noiseX = random.nextGaussian();
+            double noiseY = random.nextGaussian();
+            if (random.nextInt(100) == 0) {
+                noiseX += 150;
+            }
+            points.add(offset(x + noiseX, y + noiseY));
+        }
+        return points;
+    }
+
+    private static RunningRecord.LocationPoint point(double latitude, double longitude) {
+        return RunningRecord.LocationPoint.builder().latitude(latitude).longitude(longitude).build();
+    }
+
+    // 기준점에서 동쪽 east m, 북쪽 north m 떨어진 점
+    private static RunningRecord.LocationPoint offset(double east, double north) {
+        return point(BASE_LAT + north / METERS_PER_DEGREE,
+                BASE_LNG + east / (METERS_PER_DEGREE * Math.cos(Math.toRadians(BASE_LAT))));
+    }
+
+    // 기준점 주변 평면 근사로 점과 꺾은선 사이 최단 거리 (m)
+    private static double distanceToPolyline(RunningRecord.LocationPoint p, List<RunningRecord.LocationPoint> line) {
+        double best = Double.MAX_VALUE;
+        for (int i = 1; i < line.size(); i++) {
+            double[] a = toMeters(line.get(i - 1));
+            double[] b = toMeters(line.get(i));
+            double[] q = toMeters(p);
+            double dx = b[0] - a[0];
+            double dy = b[1] - a[1];
+            double lengthSq = dx * dx + dy * dy;
+            double t = lengthSq == 0 ? 0 : Math.max(0, Math.min(1, ((q[0] - a[0]) * dx + (q[1] - a[1]) * dy) / lengthSq));
+            best = Math.min(best, Math.hypot(a[0] + t * dx - q[0], a[1] + t * dy - q[1]));
+        }
+        return best;
+    }
+
+    private static double[] toMeters(RunningRecord.LocationPoint p) {
+        return new double[]{
+                (p.getLongitude() - BASE_LNG) * METERS_PER_DEGREE * Math.cos(Math.toRadians(BASE_LAT)),
+                (p.getLatitude() - BASE_LAT) * METERS_PER_DEGREE};
+    }
+}